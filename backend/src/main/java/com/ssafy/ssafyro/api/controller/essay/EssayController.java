@@ -8,11 +8,14 @@ import com.ssafy.ssafyro.api.controller.essay.request.EssaySaveRequest;
 import com.ssafy.ssafyro.api.service.essay.EssayService;
 import com.ssafy.ssafyro.api.service.essay.response.EssayDetailResponse;
 import com.ssafy.ssafyro.api.service.essay.response.EssayReviewResponse;
+import com.ssafy.ssafyro.api.service.essay.response.EssayReviewStreamResponse;
 import com.ssafy.ssafyro.api.service.essay.response.EssaySaveResponse;
 import com.ssafy.ssafyro.api.service.essay.response.EssayUpdateResponse;
 import com.ssafy.ssafyro.security.JwtAuthentication;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,8 +32,18 @@ public class EssayController {
     private final EssayService essayService;
 
     @PostMapping("/api/v1/essays/review")
-    public ApiResult<EssayReviewResponse> reviewEssay(@Valid @RequestBody EssayReviewRequest request) {
-        return success(essayService.reviewEssay(request.toServiceRequest()));
+    public ApiResult<EssayReviewResponse> reviewEssay(@AuthenticationPrincipal JwtAuthentication userInfo,
+                                                      @Valid @RequestBody EssayReviewRequest request) {
+        return success(essayService.reviewEssay(userInfo.id(), request.toServiceRequest()));
+    }
+
+    @PostMapping(value = "/api/v1/essays/review/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<EssayReviewStreamResponse>> streamReviewEssay(
+            @Valid @RequestBody EssayReviewRequest request) {
+        return essayService.streamReviewEssay(request.toServiceRequest())
+                .map(response -> ServerSentEvent.builder(response)
+                        .event(response.type())
+                        .build());
     }
 
     @PostMapping("/api/v1/essays")
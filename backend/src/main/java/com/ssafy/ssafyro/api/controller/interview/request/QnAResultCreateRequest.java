@@ -6,7 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 
 @Builder
-public record QnAResultCreateRequest(@NotEmpty String question,
+public record QnAResultCreateRequest(@NotEmpty String roomId,
+                                     @NotEmpty String question,
                                      @NotEmpty String answer,
                                      @NotNull int pronunciationScore,
                                      @NotNull double happy,
@@ -19,6 +20,7 @@ public record QnAResultCreateRequest(@NotEmpty String question,
 
     public QnAResultCreateServiceRequest toServiceRequest() {
         return QnAResultCreateServiceRequest.builder()
+                .roomId(roomId)
                 .question(question)
                 .answer(answer)
                 .pronunciationScore(pronunciationScore)
@@ -8,6 +8,7 @@ import com.ssafy.ssafyro.api.controller.report.request.ReportsScoreRequest;
 import com.ssafy.ssafyro.api.service.report.ReportService;
 import com.ssafy.ssafyro.api.service.report.response.ReportCreateResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportResponse;
+import com.ssafy.ssafyro.api.service.report.response.ReportStatusResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportsResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportsStatisticExpressionResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportsStatisticUserScoreResponse;
@@ -50,6 +51,11 @@ public class ReportController {
         return success(reportService.createReport(request.toServiceRequest()));
     }
 
+    @GetMapping("/api/v1/reports/{id}/status")
+    public ApiResult<ReportStatusResponse> getReportStatus(@PathVariable("id") @NotNull Long reportId) {
+        return success(reportService.getReportStatus(reportId));
+    }
+
     @GetMapping("/api/v1/reports/score-average")
     public ApiResult<ReportsUserAverageResponse> getReportsUserAverage(
             @AuthenticationPrincipal JwtAuthentication userInfo,
@@ -6,12 +6,14 @@ import com.ssafy.ssafyro.api.ApiUtils.ApiResult;
 import com.ssafy.ssafyro.api.controller.room.request.RoomCreateRequest;
 import com.ssafy.ssafyro.api.controller.room.request.RoomEnterRequest;
 import com.ssafy.ssafyro.api.controller.room.request.RoomExitRequest;
+import com.ssafy.ssafyro.api.controller.room.request.RoomFastEnterWaitRequest;
 import com.ssafy.ssafyro.api.controller.room.request.RoomListRequest;
 import com.ssafy.ssafyro.api.service.room.RoomService;
 import com.ssafy.ssafyro.api.service.room.response.RoomCreateResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomDetailResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomEnterResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomExitResponse;
+import com.ssafy.ssafyro.api.service.room.response.RoomFastEnterCancelResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomFastEnterResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomListResponse;
 import com.ssafy.ssafyro.security.JwtAuthentication;
@@ -20,6 +22,7 @@ import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -67,4 +70,16 @@ public class RoomController {
         return success(roomService.fastRoomEnter(type));
     }
 
+    @PostMapping("/api/v1/rooms/fast-enter/waiting")
+    public ApiResult<RoomFastEnterResponse> waitFastEnter(@AuthenticationPrincipal JwtAuthentication userInfo,
+                                                          @Valid @RequestBody RoomFastEnterWaitRequest request) {
+        return success(roomService.waitFastEnter(userInfo.id(), request.type()));
+    }
+
+    @DeleteMapping("/api/v1/rooms/fast-enter/waiting")
+    public ApiResult<RoomFastEnterCancelResponse> cancelFastEnter(@AuthenticationPrincipal JwtAuthentication userInfo,
+                                                                  @NotEmpty @RequestParam String type) {
+        return success(roomService.cancelFastEnter(userInfo.id(), type));
+    }
+
 }
@@ -26,8 +26,9 @@ public class RoomFilterArgumentResolver implements HandlerMethodArgumentResolver
         String status = webRequest.getParameter("status");
         int page = parseInteger(webRequest.getParameter("page"), 1);
         int size = parseInteger(webRequest.getParameter("size"), 10);
+        String cursor = webRequest.getParameter("cursor");
 
-        return new RoomListRequest(title, type, capacity, status, page, size);
+        return new RoomListRequest(title, type, capacity, status, page, size, cursor);
     }
 
     private Integer parseInteger(String value) {
@@ -0,0 +1,6 @@
+package com.ssafy.ssafyro.api.controller.room.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+public record RoomFastEnterWaitRequest(@NotEmpty String type) {
+}
@@ -9,11 +9,12 @@ public record RoomListRequest(String title,
                               Integer capacity,
                               String status,
                               @Min(1) int page,
-                              @Min(1) int size
+                              @Min(1) int size,
+                              String cursor
 ) {
 
     public RoomListServiceRequest toServiceRequest() {
-        return new RoomListServiceRequest(title, type, capacity, status, page, size);
+        return new RoomListServiceRequest(title, type, capacity, status, page, size, cursor);
     }
 }
 
@@ -0,0 +1,105 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+
+/**
+ * AI 호출 하나를 서킷 브레이커 → 벌크헤드 → 타임아웃 순서로 감싼다.
+ * <p>
+ * 호출은 벌크헤드 전용 스레드에서 실행되므로 모델이 느려져도 요청 스레드는 타임아웃 이상 묶이지 않는다.
+ * <p>
+ * 스트리밍 호출은 스레드를 점유하지 않으므로 세마포어 벌크헤드 허가를 스트림이 끝나거나 취소될 때까지 쥐고 있는다.
+ * 타임아웃은 전체 시간이 아니라 다음 응답 조각을 기다리는 유휴 시간에 적용한다.
+ * 긴 첨삭은 조각이 계속 도착하는 동안 전체 타임아웃보다 오래 이어질 수 있기 때문이다.
+ */
+public class AICallGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final ThreadPoolBulkhead bulkhead;
+    private final Bulkhead streamBulkhead;
+    private final TimeLimiter timeLimiter;
+    private final ScheduledExecutorService scheduler;
+
+    public AICallGuard(CircuitBreaker circuitBreaker,
+                       ThreadPoolBulkhead bulkhead,
+                       Bulkhead streamBulkhead,
+                       TimeLimiter timeLimiter,
+                       ScheduledExecutorService scheduler) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.streamBulkhead = streamBulkhead;
+        this.timeLimiter = timeLimiter;
+        this.scheduler = scheduler;
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        Supplier<CompletionStage<T>> guarded = CircuitBreaker.decorateCompletionStage(
+                circuitBreaker,
+                timeLimiter.decorateCompletionStage(scheduler, bulkhead.decorateSupplier(call))
+        );
+
+        try {
+            return guarded.get().toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for AI response", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    public <T> Flux<T> stream(Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Flux.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            if (!streamBulkhead.tryAcquirePermission()) {
+                circuitBreaker.releasePermission();
+                return Flux.error(BulkheadFullException.createBulkheadFullException(streamBulkhead));
+            }
+
+            long start = System.nanoTime();
+            Duration idleTimeout = timeLimiter.getTimeLimiterConfig().getTimeoutDuration();
+
+            Flux<T> source;
+            try {
+                source = call.get();
+            } catch (RuntimeException e) {
+                streamBulkhead.onComplete();
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                return Flux.error(e);
+            }
+
+            return source
+                    .timeout(idleTimeout)
+                    .doOnComplete(() -> circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(e -> circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e))
+                    .doOnCancel(circuitBreaker::releasePermission)
+                    .doFinally(signal -> streamBulkhead.onComplete());
+        });
+    }
+
+    private static RuntimeException unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new CompletionException(cause);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import com.ssafy.ssafyro.config.redis.BoundedRedisCache;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정규화한 질문, 답변과 프롬프트 버전의 해시를 키로 AI 피드백을 Redis 에 저장해 노드 간에 공유한다.
+ * <p>
+ * 각 항목은 TTL 로 만료되고, 최대 크기를 넘으면 먼저 저장한 항목부터 지운다.
+ */
+@Component
+public class AIFeedbackCache {
+
+    private static final String FEEDBACK_PREFIX = "ai:feedback:";
+
+    private static final String FEEDBACK_FIELD = "feedback";
+    private static final String LATENCY_FIELD = "latency";
+
+    private final BoundedRedisCache cache;
+
+    public AIFeedbackCache(StringRedisTemplate stringRedisTemplate,
+                           @Value("${ai.feedback-cache.ttl:7d}") Duration ttl,
+                           @Value("${ai.feedback-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = new BoundedRedisCache(stringRedisTemplate, FEEDBACK_PREFIX, ttl, maximumSize, false);
+    }
+
+    public Optional<CachedFeedback> get(String promptVersion, String question, String answer) {
+        return cache.get(keyOf(promptVersion, question, answer), List.of(FEEDBACK_FIELD, LATENCY_FIELD))
+                .map(values -> new CachedFeedback(
+                        values.get(0),
+                        Duration.ofMillis(values.get(1) == null ? 0 : Long.parseLong(values.get(1)))
+                ));
+    }
+
+    public void put(String promptVersion, String question, String answer, String feedback, Duration latency) {
+        cache.put(keyOf(promptVersion, question, answer), Map.of(
+                FEEDBACK_FIELD, feedback,
+                LATENCY_FIELD, String.valueOf(latency.toMillis())
+        ));
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private String keyOf(String promptVersion, String question, String answer) {
+        return cache.keyOf(promptVersion, normalize(question), normalize(answer));
+    }
+
+    private static String normalize(String text) {
+        return text.strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    public record CachedFeedback(String feedback, Duration latency) {
+    }
+}
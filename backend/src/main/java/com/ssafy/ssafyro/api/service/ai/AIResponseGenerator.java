@@ -1,10 +1,21 @@
 package com.ssafy.ssafyro.api.service.ai;
 
+import java.util.List;
+import reactor.core.publisher.Flux;
+
 public interface AIResponseGenerator {
 
     String generateFeedbackBy(String question, String answer);
 
+    List<String> generateFeedbacksBy(List<AiQuestionAnswer> questionAnswers);
+
     AiArticle generateArticle();
 
     String generateNewEssay(String question, String content);
+
+    Flux<String> streamNewEssay(String question, String content);
+
+    List<AiSentenceRevision> generateSentenceRevisions(String question,
+                                                       List<String> sentences,
+                                                       List<Integer> targetIndexes);
 }
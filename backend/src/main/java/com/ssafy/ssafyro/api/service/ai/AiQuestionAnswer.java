@@ -0,0 +1,4 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+public record AiQuestionAnswer(String question, String answer) {
+}
@@ -0,0 +1,4 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+public record AiSentenceRevision(int index, String revised, String reason) {
+}
@@ -0,0 +1,155 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import com.ssafy.ssafyro.api.service.ai.AIFeedbackCache.CachedFeedback;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * 면접 답변 피드백을 {@link AIFeedbackCache} 에서 먼저 찾고, 없을 때만 모델을 호출한다.
+ * 캐시 장애는 캐시 미스로 처리해 피드백 생성을 막지 않는다.
+ */
+@Slf4j
+public class CachingAIResponseGenerator implements AIResponseGenerator {
+
+    private final AIResponseGenerator delegate;
+    private final AIFeedbackCache feedbackCache;
+    private final String promptVersion;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter savedLatency;
+    private final Timer upstreamLatency;
+
+    public CachingAIResponseGenerator(AIResponseGenerator delegate,
+                                      AIFeedbackCache feedbackCache,
+                                      String promptVersion,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.feedbackCache = feedbackCache;
+        this.promptVersion = promptVersion;
+        this.hits = Counter.builder("ai.feedback-cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("ai.feedback-cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.savedLatency = Counter.builder("ai.feedback-cache.saved-latency")
+                .description("캐시 적중으로 생략한 모델 호출 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.upstreamLatency = Timer.builder("ai.feedback-cache.upstream")
+                .description("캐시 미스로 호출한 모델 응답 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String generateFeedbackBy(String question, String answer) {
+        Optional<CachedFeedback> cached = findCached(question, answer);
+        if (cached.isPresent()) {
+            hits.increment();
+            savedLatency.increment(cached.get().latency().toMillis());
+            return cached.get().feedback();
+        }
+
+        misses.increment();
+        long startedAt = System.nanoTime();
+        String feedback = delegate.generateFeedbackBy(question, answer);
+        Duration latency = Duration.ofNanos(System.nanoTime() - startedAt);
+        upstreamLatency.record(latency);
+
+        store(question, answer, feedback, latency);
+        return feedback;
+    }
+
+    @Override
+    public List<String> generateFeedbacksBy(List<AiQuestionAnswer> questionAnswers) {
+        String[] feedbacks = new String[questionAnswers.size()];
+        List<Integer> missedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < questionAnswers.size(); i++) {
+            AiQuestionAnswer questionAnswer = questionAnswers.get(i);
+            Optional<CachedFeedback> cached = findCached(questionAnswer.question(), questionAnswer.answer());
+            if (cached.isPresent()) {
+                hits.increment();
+                savedLatency.increment(cached.get().latency().toMillis());
+                feedbacks[i] = cached.get().feedback();
+            } else {
+                missedIndexes.add(i);
+            }
+        }
+
+        if (missedIndexes.isEmpty()) {
+            return Arrays.asList(feedbacks);
+        }
+
+        misses.increment(missedIndexes.size());
+        List<AiQuestionAnswer> missed = missedIndexes.stream()
+                .map(questionAnswers::get)
+                .toList();
+
+        long startedAt = System.nanoTime();
+        List<String> generated = delegate.generateFeedbacksBy(missed);
+        Duration latency = Duration.ofNanos(System.nanoTime() - startedAt);
+        upstreamLatency.record(latency);
+
+        // 묶어서 받은 응답 시간은 답변 수로 나눠 각 항목에 기록한다.
+        Duration latencyPerAnswer = latency.dividedBy(missed.size());
+        for (int i = 0; i < missed.size(); i++) {
+            feedbacks[missedIndexes.get(i)] = generated.get(i);
+            store(missed.get(i).question(), missed.get(i).answer(), generated.get(i), latencyPerAnswer);
+        }
+
+        return Arrays.asList(feedbacks);
+    }
+
+    @Override
+    public AiArticle generateArticle() {
+        return delegate.generateArticle();
+    }
+
+    @Override
+    public String generateNewEssay(String question, String content) {
+        return delegate.generateNewEssay(question, content);
+    }
+
+    @Override
+    public Flux<String> streamNewEssay(String question, String content) {
+        return delegate.streamNewEssay(question, content);
+    }
+
+    @Override
+    public List<AiSentenceRevision> generateSentenceRevisions(String question,
+                                                              List<String> sentences,
+                                                              List<Integer> targetIndexes) {
+        return delegate.generateSentenceRevisions(question, sentences, targetIndexes);
+    }
+
+    private Optional<CachedFeedback> findCached(String question, String answer) {
+        try {
+            return feedbackCache.get(promptVersion, question, answer);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read feedback cache", e);
+            return Optional.empty();
+        }
+    }
+
+    private void store(String question, String answer, String feedback, Duration latency) {
+        if (feedback == null || feedback.isBlank()) {
+            return;
+        }
+
+        try {
+            feedbackCache.put(promptVersion, question, answer, feedback, latency);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write feedback cache", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import com.ssafy.ssafyro.error.ai.AIResponseUnavailableException;
+import java.util.Collections;
+import java.util.List;
+import reactor.core.publisher.Flux;
+
+/**
+ * 모델을 사용할 수 없을 때 미리 정해 둔 피드백 문구를 돌려준다.
+ * 기사, 에세이 첨삭처럼 고정 문구로 대신할 수 없는 작업은 그대로 실패한다.
+ */
+public class CannedAIResponseGenerator implements AIResponseGenerator {
+
+    private final String feedback;
+
+    public CannedAIResponseGenerator(String feedback) {
+        this.feedback = feedback;
+    }
+
+    @Override
+    public String generateFeedbackBy(String question, String answer) {
+        return feedback;
+    }
+
+    @Override
+    public List<String> generateFeedbacksBy(List<AiQuestionAnswer> questionAnswers) {
+        return Collections.nCopies(questionAnswers.size(), feedback);
+    }
+
+    @Override
+    public AiArticle generateArticle() {
+        throw new AIResponseUnavailableException("No fallback for article generation");
+    }
+
+    @Override
+    public String generateNewEssay(String question, String content) {
+        throw new AIResponseUnavailableException("No fallback for essay review");
+    }
+
+    @Override
+    public Flux<String> streamNewEssay(String question, String content) {
+        return Flux.error(new AIResponseUnavailableException("No fallback for essay review"));
+    }
+
+    @Override
+    public List<AiSentenceRevision> generateSentenceRevisions(String question,
+                                                              List<String> sentences,
+                                                              List<Integer> targetIndexes) {
+        throw new AIResponseUnavailableException("No fallback for essay review");
+    }
+}
@@ -1,14 +1,26 @@
 package com.ssafy.ssafyro.api.service.ai;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ChatGptResponseGenerator implements AIResponseGenerator {
 
+    // 피드백 프롬프트를 바꾸면 올려서 이전 프롬프트로 만든 캐시를 쓰지 않게 한다.
+    public static final String FEEDBACK_PROMPT_VERSION = "1";
+
+    // 에세이 첨삭 프롬프트를 바꾸면 올려서 이전 프롬프트로 만든 첨삭 캐시를 쓰지 않게 한다.
+    public static final String ESSAY_PROMPT_VERSION = "1";
+
     private final ChatClient chatClient;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public String generateFeedbackBy(String question, String answer) {
@@ -18,6 +30,28 @@ public class ChatGptResponseGenerator implements AIResponseGenerator {
                 .content();
     }
 
+    // 한 번에 묶은 응답을 나누지 못하면 답변마다 따로 요청한다.
+    @Override
+    public List<String> generateFeedbacksBy(List<AiQuestionAnswer> questionAnswers) {
+        if (questionAnswers.isEmpty()) {
+            return List.of();
+        }
+
+        String content = chatClient.prompt()
+                .user(FeedbackBatchPrompt.create(questionAnswers))
+                .call()
+                .content();
+
+        return FeedbackBatchPrompt.parse(content, questionAnswers.size())
+                .orElseGet(() -> {
+                    recordMalformed("feedback-batch");
+                    return questionAnswers.stream()
+                            .map(questionAnswer -> generateFeedbackBy(questionAnswer.question(),
+                                    questionAnswer.answer()))
+                            .toList();
+                });
+    }
+
     @Override
     public AiArticle generateArticle() {
         String content = chatClient.prompt()
@@ -36,6 +70,41 @@ public class ChatGptResponseGenerator implements AIResponseGenerator {
                 .content();
     }
 
+    @Override
+    public Flux<String> streamNewEssay(String question, String content) {
+        return chatClient.prompt()
+                .user(createEssayReviewPrompt(question, content))
+                .stream()
+                .content();
+    }
+
+    @Override
+    public List<AiSentenceRevision> generateSentenceRevisions(String question,
+                                                              List<String> sentences,
+                                                              List<Integer> targetIndexes) {
+        if (targetIndexes.isEmpty()) {
+            return List.of();
+        }
+
+        String content = chatClient.prompt()
+                .user(EssayRevisionPrompt.create(question, sentences, targetIndexes))
+                .call()
+                .content();
+
+        // 나누지 못하면 빈 목록을 돌려주고, 호출한 쪽은 에세이 전체를 다시 첨삭한다.
+        return EssayRevisionPrompt.parse(content, targetIndexes)
+                .orElseGet(() -> {
+                    recordMalformed("essay-revision");
+                    return List.of();
+                });
+    }
+
+    // 묶어서 요청한 응답의 형식이 어긋나 다시 요청하게 되는 횟수를 기록한다.
+    private void recordMalformed(String operation) {
+        log.warn("Malformed {} response from AI model", operation);
+        meterRegistry.counter("ai.response.malformed", "operation", operation).increment();
+    }
+
     private String createFeedbackPrompt(String question, String answer) {
         return "답변은 md 형식이 아닌 text로만, 질문에 대한 답변이 적절한지 피드백 해줘.\n"
                 + "질문: " + question + "\n"
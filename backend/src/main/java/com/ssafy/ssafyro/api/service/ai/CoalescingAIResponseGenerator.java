@@ -0,0 +1,60 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import reactor.core.publisher.Flux;
+
+/**
+ * 인자가 같은 피드백, 에세이 첨삭 요청이 동시에 들어오면 모델을 한 번만 호출하고 결과를 나눠 쓴다.
+ */
+public class CoalescingAIResponseGenerator implements AIResponseGenerator {
+
+    private final AIResponseGenerator delegate;
+
+    private final SingleFlight<List<String>, String> feedbackFlight;
+    private final SingleFlight<List<String>, String> essayFlight;
+
+    public CoalescingAIResponseGenerator(AIResponseGenerator delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.feedbackFlight = new SingleFlight<>("feedback", meterRegistry);
+        this.essayFlight = new SingleFlight<>("essay", meterRegistry);
+    }
+
+    @Override
+    public String generateFeedbackBy(String question, String answer) {
+        return feedbackFlight.execute(
+                List.of(question, answer),
+                () -> delegate.generateFeedbackBy(question, answer)
+        );
+    }
+
+    @Override
+    public List<String> generateFeedbacksBy(List<AiQuestionAnswer> questionAnswers) {
+        return delegate.generateFeedbacksBy(questionAnswers);
+    }
+
+    @Override
+    public AiArticle generateArticle() {
+        return delegate.generateArticle();
+    }
+
+    @Override
+    public String generateNewEssay(String question, String content) {
+        return essayFlight.execute(
+                List.of(question, content),
+                () -> delegate.generateNewEssay(question, content)
+        );
+    }
+
+    @Override
+    public Flux<String> streamNewEssay(String question, String content) {
+        return delegate.streamNewEssay(question, content);
+    }
+
+    @Override
+    public List<AiSentenceRevision> generateSentenceRevisions(String question,
+                                                              List<String> sentences,
+                                                              List<Integer> targetIndexes) {
+        return delegate.generateSentenceRevisions(question, sentences, targetIndexes);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 에세이에서 바뀐 문장만 앞뒤 문장과 함께 보내 첨삭을 요청하는 프롬프트를 만들고 응답을 문장별 첨삭으로 나눈다.
+ * 각 첨삭은 {@code [문장 번호]} 머리말과 {@code 수정:}, {@code 이유:} 줄로 구분한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EssayRevisionPrompt {
+
+    private static final int CONTEXT_SIZE = 1;
+
+    private static final Pattern REVISED = Pattern.compile("^\\s*수정\\s*:\\s*(.+)$", Pattern.MULTILINE);
+    private static final Pattern REASON = Pattern.compile("^\\s*이유\\s*:\\s*(.+)$", Pattern.MULTILINE);
+
+    public static String create(String question, List<String> sentences, List<Integer> targetIndexes) {
+        StringBuilder prompt = new StringBuilder()
+                .append("질문에 대한 에세이 중 일부 문장을 첨삭해줘.\n")
+                .append("질문: ").append(question).append("\n")
+                .append("아래는 에세이의 일부야. [번호] 로 표시한 문장만 첨삭하고 (번호) 로 표시한 문장은 문맥으로만 참고해.\n\n");
+
+        int previous = -1;
+        for (int index : contextIndexes(sentences.size(), targetIndexes)) {
+            if (previous >= 0 && index > previous + 1) {
+                prompt.append("...\n");
+            }
+            boolean target = targetIndexes.contains(index);
+            prompt.append(target ? "[" : "(").append(index + 1).append(target ? "] " : ") ")
+                    .append(sentences.get(index)).append("\n");
+            previous = index;
+        }
+
+        return prompt
+                .append("\n[번호] 로 표시한 문장마다 아래 형식으로만 답해줘. 문장 하나는 문장 하나로 고쳐줘.\n")
+                .append("[번호]\n")
+                .append("수정: 수정 후 문장\n")
+                .append("이유: 수정 이유\n")
+                .append("고칠 필요가 없으면 수정에 원래 문장을 그대로 쓰고 이유에 없음 이라고 써줘.\n")
+                .toString();
+    }
+
+    /**
+     * 요청한 문장 번호가 순서대로 모두 있고 수정 문장이 비어 있지 않을 때만 첨삭 목록을 반환한다.
+     */
+    public static Optional<List<AiSentenceRevision>> parse(String content, List<Integer> targetIndexes) {
+        List<Integer> numbers = targetIndexes.stream().map(index -> index + 1).toList();
+        Optional<List<String>> bodies = NumberedSections.split(content, numbers);
+        if (bodies.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<AiSentenceRevision> revisions = new ArrayList<>();
+        for (int i = 0; i < targetIndexes.size(); i++) {
+            String body = bodies.get().get(i);
+
+            Matcher revised = REVISED.matcher(body);
+            if (!revised.find()) {
+                return Optional.empty();
+            }
+            Matcher reason = REASON.matcher(body);
+            revisions.add(new AiSentenceRevision(
+                    targetIndexes.get(i),
+                    revised.group(1).strip(),
+                    reason.find() ? reason.group(1).strip() : ""
+            ));
+        }
+
+        return Optional.of(revisions);
+    }
+
+    private static TreeSet<Integer> contextIndexes(int size, List<Integer> targetIndexes) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (int target : targetIndexes) {
+            int from = Math.max(0, target - CONTEXT_SIZE);
+            int to = Math.min(size - 1, target + CONTEXT_SIZE);
+            for (int index = from; index <= to; index++) {
+                indexes.add(index);
+            }
+        }
+        return indexes;
+    }
+}
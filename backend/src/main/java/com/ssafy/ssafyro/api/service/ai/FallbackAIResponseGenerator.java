@@ -0,0 +1,95 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import com.ssafy.ssafyro.error.ai.AIResponseUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * 기본 생성기가 {@link AIResponseUnavailableException} 을 던지면 대체 생성기로 다시 시도한다.
+ * 대체 응답은 캐시 바깥에서 만들어지므로 피드백 캐시에 저장되지 않는다.
+ */
+@Slf4j
+public class FallbackAIResponseGenerator implements AIResponseGenerator {
+
+    private final AIResponseGenerator primary;
+    private final AIResponseGenerator fallback;
+    private final MeterRegistry meterRegistry;
+
+    public FallbackAIResponseGenerator(AIResponseGenerator primary,
+                                       AIResponseGenerator fallback,
+                                       MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.fallback = fallback;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String generateFeedbackBy(String question, String answer) {
+        return withFallback("feedback",
+                () -> primary.generateFeedbackBy(question, answer),
+                () -> fallback.generateFeedbackBy(question, answer));
+    }
+
+    @Override
+    public List<String> generateFeedbacksBy(List<AiQuestionAnswer> questionAnswers) {
+        return withFallback("feedback-batch",
+                () -> primary.generateFeedbacksBy(questionAnswers),
+                () -> fallback.generateFeedbacksBy(questionAnswers));
+    }
+
+    @Override
+    public AiArticle generateArticle() {
+        return withFallback("article", primary::generateArticle, fallback::generateArticle);
+    }
+
+    @Override
+    public String generateNewEssay(String question, String content) {
+        return withFallback("essay",
+                () -> primary.generateNewEssay(question, content),
+                () -> fallback.generateNewEssay(question, content));
+    }
+
+    @Override
+    public Flux<String> streamNewEssay(String question, String content) {
+        return primary.streamNewEssay(question, content)
+                .onErrorResume(AIResponseUnavailableException.class, e -> {
+                    log.warn("AI essay stream unavailable, falling back: {}", e.getMessage());
+                    return fallback.streamNewEssay(question, content)
+                            .doOnComplete(() -> count("essay-stream", "success"))
+                            .doOnError(fallbackError -> count("essay-stream", "failure"));
+                });
+    }
+
+    @Override
+    public List<AiSentenceRevision> generateSentenceRevisions(String question,
+                                                              List<String> sentences,
+                                                              List<Integer> targetIndexes) {
+        return withFallback("essay-revision",
+                () -> primary.generateSentenceRevisions(question, sentences, targetIndexes),
+                () -> fallback.generateSentenceRevisions(question, sentences, targetIndexes));
+    }
+
+    private <T> T withFallback(String operation, Supplier<T> primaryCall, Supplier<T> fallbackCall) {
+        try {
+            return primaryCall.get();
+        } catch (AIResponseUnavailableException e) {
+            log.warn("AI {} unavailable, falling back: {}", operation, e.getMessage());
+            try {
+                T result = fallbackCall.get();
+                count(operation, "success");
+                return result;
+            } catch (RuntimeException fallbackError) {
+                count(operation, "failure");
+                e.addSuppressed(fallbackError);
+                throw e;
+            }
+        }
+    }
+
+    private void count(String operation, String result) {
+        meterRegistry.counter("ai.fallback", "operation", operation, "result", result).increment();
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 질문, 답변 쌍의 피드백을 한 번에 요청하는 프롬프트를 만들고 응답을 답변별 피드백으로 나눈다.
+ * 각 피드백은 {@code [번호]} 머리말로 구분한다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FeedbackBatchPrompt {
+
+    public static String create(List<AiQuestionAnswer> questionAnswers) {
+        StringBuilder prompt = new StringBuilder()
+                .append("답변은 md 형식이 아닌 text로만, 아래 각 질문에 대한 답변이 적절한지 피드백 해줘.\n")
+                .append("각 피드백은 질문 번호를 [1] 처럼 한 줄에 단독으로 쓰고 그 다음 줄부터 작성해줘.\n")
+                .append("질문 번호 외의 다른 머리말이나 요약은 쓰지 마.\n");
+
+        for (int i = 0; i < questionAnswers.size(); i++) {
+            AiQuestionAnswer questionAnswer = questionAnswers.get(i);
+            prompt.append("\n[").append(i + 1).append("]\n")
+                    .append("질문: ").append(questionAnswer.question()).append("\n")
+                    .append("답변: ").append(questionAnswer.answer()).append("\n");
+        }
+
+        return prompt.toString();
+    }
+
+    /**
+     * 번호가 1부터 빠짐없이 순서대로 있고 내용이 비어 있지 않을 때만 피드백 목록을 반환한다.
+     */
+    public static Optional<List<String>> parse(String content, int expectedSize) {
+        List<Integer> numbers = IntStream.rangeClosed(1, expectedSize).boxed().toList();
+        return NumberedSections.split(content, numbers)
+                .map(bodies -> bodies.stream().map(String::strip).toList())
+                .filter(feedbacks -> feedbacks.stream().noneMatch(String::isEmpty));
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 줄에 단독으로 쓴 {@code [번호]} 머리말로 구분한 모델 응답을 머리말별 본문으로 나눈다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class NumberedSections {
+
+    private static final Pattern HEADER = Pattern.compile("^\\s*\\[(\\d+)]\\s*$", Pattern.MULTILINE);
+
+    /**
+     * 머리말 번호가 expectedNumbers 와 순서까지 정확히 같을 때만 각 머리말 다음부터 다음 머리말 전까지의 본문을 반환한다.
+     * int 범위를 넘는 번호도 잘못된 응답으로 본다.
+     */
+    static Optional<List<String>> split(String content, List<Integer> expectedNumbers) {
+        if (content == null) {
+            return Optional.empty();
+        }
+
+        Matcher matcher = HEADER.matcher(content);
+        List<Integer> headerStarts = new ArrayList<>();
+        List<Integer> bodyStarts = new ArrayList<>();
+        while (matcher.find()) {
+            int index = headerStarts.size();
+            if (index >= expectedNumbers.size() || numberOf(matcher) != expectedNumbers.get(index)) {
+                return Optional.empty();
+            }
+            headerStarts.add(matcher.start());
+            bodyStarts.add(matcher.end());
+        }
+
+        if (headerStarts.size() != expectedNumbers.size()) {
+            return Optional.empty();
+        }
+
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < headerStarts.size(); i++) {
+            int end = i + 1 < headerStarts.size() ? headerStarts.get(i + 1) : content.length();
+            bodies.add(content.substring(bodyStarts.get(i), end));
+        }
+        return Optional.of(bodies);
+    }
+
+    private static int numberOf(Matcher matcher) {
+        try {
+            return Integer.parseInt(matcher.group(1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
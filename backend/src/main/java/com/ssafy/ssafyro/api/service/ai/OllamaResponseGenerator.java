@@ -1,7 +1,9 @@
 package com.ssafy.ssafyro.api.service.ai;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.chat.client.ChatClient;
+import reactor.core.publisher.Flux;
 
 //@Component
 @RequiredArgsConstructor
@@ -17,6 +19,13 @@ public class OllamaResponseGenerator implements AIResponseGenerator {
                 .content();
     }
 
+    @Override
+    public List<String> generateFeedbacksBy(List<AiQuestionAnswer> questionAnswers) {
+        return questionAnswers.stream()
+                .map(questionAnswer -> generateFeedbackBy(questionAnswer.question(), questionAnswer.answer()))
+                .toList();
+    }
+
     @Override
     public AiArticle generateArticle() {
         String content = chatClient.prompt()
@@ -35,6 +44,31 @@ public class OllamaResponseGenerator implements AIResponseGenerator {
                 .content();
     }
 
+    @Override
+    public Flux<String> streamNewEssay(String question, String content) {
+        return chatClient.prompt()
+                .user(createEssayReviewPrompt(question, content))
+                .stream()
+                .content();
+    }
+
+    @Override
+    public List<AiSentenceRevision> generateSentenceRevisions(String question,
+                                                              List<String> sentences,
+                                                              List<Integer> targetIndexes) {
+        if (targetIndexes.isEmpty()) {
+            return List.of();
+        }
+
+        String content = chatClient.prompt()
+                .user(EssayRevisionPrompt.create(question, sentences, targetIndexes))
+                .call()
+                .content();
+
+        return EssayRevisionPrompt.parse(content, targetIndexes)
+                .orElse(List.of());
+    }
+
     private String createFeedbackPrompt(String question, String answer) {
         return "답변은 md 형식이 아닌 text로만, 질문에 대한 답변이 적절한지 피드백 해줘.\n"
                 + "질문: " + question + "\n"
@@ -0,0 +1,79 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import com.ssafy.ssafyro.error.ai.AIResponseUnavailableException;
+import java.util.List;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+
+/**
+ * 모델 호출을 작업별 {@link AICallGuard} 로 감싼다.
+ * <p>
+ * 타임아웃, 벌크헤드 포화, 서킷 오픈, 모델 오류는 모두 {@link AIResponseUnavailableException} 으로 바꿔 던진다.
+ * 대체 응답은 바깥의 {@link FallbackAIResponseGenerator} 가 맡는다.
+ */
+public class ResilientAIResponseGenerator implements AIResponseGenerator {
+
+    private final AIResponseGenerator delegate;
+
+    private final AICallGuard feedbackGuard;
+    private final AICallGuard feedbackBatchGuard;
+    private final AICallGuard articleGuard;
+    private final AICallGuard essayGuard;
+
+    public ResilientAIResponseGenerator(AIResponseGenerator delegate,
+                                        AICallGuard feedbackGuard,
+                                        AICallGuard feedbackBatchGuard,
+                                        AICallGuard articleGuard,
+                                        AICallGuard essayGuard) {
+        this.delegate = delegate;
+        this.feedbackGuard = feedbackGuard;
+        this.feedbackBatchGuard = feedbackBatchGuard;
+        this.articleGuard = articleGuard;
+        this.essayGuard = essayGuard;
+    }
+
+    @Override
+    public String generateFeedbackBy(String question, String answer) {
+        return execute("feedback", feedbackGuard, () -> delegate.generateFeedbackBy(question, answer));
+    }
+
+    @Override
+    public List<String> generateFeedbacksBy(List<AiQuestionAnswer> questionAnswers) {
+        return execute("feedback-batch", feedbackBatchGuard, () -> delegate.generateFeedbacksBy(questionAnswers));
+    }
+
+    @Override
+    public AiArticle generateArticle() {
+        return execute("article", articleGuard, delegate::generateArticle);
+    }
+
+    @Override
+    public String generateNewEssay(String question, String content) {
+        return execute("essay", essayGuard, () -> delegate.generateNewEssay(question, content));
+    }
+
+    @Override
+    public Flux<String> streamNewEssay(String question, String content) {
+        return essayGuard.stream(() -> delegate.streamNewEssay(question, content))
+                .onErrorMap(e -> !(e instanceof AIResponseUnavailableException),
+                        e -> new AIResponseUnavailableException("AI essay stream failed", e));
+    }
+
+    @Override
+    public List<AiSentenceRevision> generateSentenceRevisions(String question,
+                                                              List<String> sentences,
+                                                              List<Integer> targetIndexes) {
+        return execute("essay-revision", essayGuard,
+                () -> delegate.generateSentenceRevisions(question, sentences, targetIndexes));
+    }
+
+    private static <T> T execute(String operation, AICallGuard guard, Supplier<T> call) {
+        try {
+            return guard.execute(call);
+        } catch (AIResponseUnavailableException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new AIResponseUnavailableException("AI " + operation + " call failed", e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.ssafy.ssafyro.api.service.article;
+
+import com.ssafy.ssafyro.api.service.ai.AIResponseGenerator;
+import com.ssafy.ssafyro.domain.article.Article;
+import com.ssafy.ssafyro.domain.article.ArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PT 면접 기사를 미리 생성해 Redis 리스트에 id 로 쌓아두고 면접 시작 시 바로 꺼내 쓴다.
+ * 남은 기사가 하한 아래로 내려가면 백그라운드에서 목표 개수까지 다시 채운다.
+ * 여러 노드가 동시에 채워 목표를 넘지 않도록 Redis 락을 잡은 노드만 채우며, 락을 잡은 뒤의 부족분만큼만 만든다.
+ */
+@Slf4j
+@Component
+public class ArticlePool {
+
+    private static final String POOL_KEY = "article:pool";
+    private static final String REFILL_LOCK_KEY = POOL_KEY + ":refill-lock";
+
+    // 자신이 잡은 락일 때만 만료 시간을 늘린다.
+    private static final RedisScript<Long> EXTEND_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 자신이 잡은 락일 때만 지운다.
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final AIResponseGenerator aiResponseGenerator;
+    private final ArticleRepository articleRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final int size;
+    private final int lowWaterMark;
+    private final Duration refillLockTtl;
+
+    private final ExecutorService refillExecutor = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final AtomicLong depth;
+    private final Timer refillLatency;
+
+    public ArticlePool(AIResponseGenerator aiResponseGenerator,
+                       ArticleRepository articleRepository,
+                       StringRedisTemplate stringRedisTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${article.pool.size:10}") int size,
+                       @Value("${article.pool.low-water-mark:3}") int lowWaterMark,
+                       @Value("${article.pool.refill-lock-ttl:2m}") Duration refillLockTtl) {
+        this.aiResponseGenerator = aiResponseGenerator;
+        this.articleRepository = articleRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.size = size;
+        this.lowWaterMark = lowWaterMark;
+        this.refillLockTtl = refillLockTtl;
+        this.depth = meterRegistry.gauge("article.pool.depth", new AtomicLong());
+        this.refillLatency = Timer.builder("article.pool.refill")
+                .description("풀에 기사 하나를 채우는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    public Optional<Article> take() {
+        if (size <= 0) {
+            return Optional.empty();
+        }
+
+        try {
+            String articleId;
+            while ((articleId = stringRedisTemplate.opsForList().leftPop(POOL_KEY)) != null) {
+                Optional<Article> article = articleRepository.findById(Long.valueOf(articleId));
+                if (article.isPresent()) {
+                    return article;
+                }
+            }
+            return Optional.empty();
+        } finally {
+            refillIfLow();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${article.pool.refill-interval:60000}")
+    public void refillIfLow() {
+        if (size > 0 && currentDepth() < lowWaterMark && !refilling.get()) {
+            refillExecutor.execute(this::refill);
+        }
+    }
+
+    public void refill() {
+        if (size <= 0 || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+
+        String lockToken = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(REFILL_LOCK_KEY, lockToken, refillLockTtl))) {
+                return;
+            }
+
+            try {
+                topUp(lockToken);
+            } finally {
+                releaseLock(lockToken);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to refill article pool", e);
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    public long currentDepth() {
+        Long poolSize = stringRedisTemplate.opsForList().size(POOL_KEY);
+        depth.set(poolSize == null ? 0 : poolSize);
+        return depth.get();
+    }
+
+    public void clear() {
+        stringRedisTemplate.delete(List.of(POOL_KEY, REFILL_LOCK_KEY));
+        depth.set(0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refillExecutor.shutdown();
+    }
+
+    private void topUp(String lockToken) {
+        long missing = size - currentDepth();
+        for (long i = 0; i < missing; i++) {
+            long startedAt = System.nanoTime();
+            Article article = articleRepository.save(aiResponseGenerator.generateArticle().toEntity());
+            refillLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            depth.set(stringRedisTemplate.opsForList().rightPush(POOL_KEY, String.valueOf(article.getId())));
+            stringRedisTemplate.execute(EXTEND_LOCK_SCRIPT, List.of(REFILL_LOCK_KEY),
+                    lockToken, String.valueOf(refillLockTtl.toMillis()));
+        }
+    }
+
+    private void releaseLock(String lockToken) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(REFILL_LOCK_KEY), lockToken);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release article pool refill lock", e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ssafy.ssafyro.api.service.essay;
+
+import com.ssafy.ssafyro.config.redis.BoundedRedisCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에세이 질문 id, 정규화한 에세이 본문, 프롬프트 버전의 해시를 키로 첨삭 결과를 Redis 에 저장한다.
+ * <p>
+ * 각 항목은 TTL 로 만료되고, 최대 크기를 넘으면 가장 오래 쓰이지 않은 항목부터 지운다.
+ * 캐시 장애는 캐시 미스로 처리해 첨삭을 막지 않는다.
+ */
+@Slf4j
+@Component
+public class EssayReviewCache {
+
+    private static final String REVIEW_PREFIX = "essay:review:";
+    private static final String REVIEW_FIELD = "review";
+
+    private final BoundedRedisCache cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public EssayReviewCache(StringRedisTemplate stringRedisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${essay.review-cache.ttl:1d}") Duration ttl,
+                            @Value("${essay.review-cache.maximum-size:5000}") long maximumSize) {
+        this.cache = new BoundedRedisCache(stringRedisTemplate, REVIEW_PREFIX, ttl, maximumSize, true);
+        this.hits = Counter.builder("essay.review-cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("essay.review-cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Optional<String> get(String promptVersion, Long essayQuestionId, String content) {
+        Optional<String> review = Optional.empty();
+        try {
+            review = cache.get(keyOf(promptVersion, essayQuestionId, content), List.of(REVIEW_FIELD))
+                    .map(values -> values.get(0));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read essay review cache: {}", e.getMessage());
+        }
+
+        if (review.isPresent()) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return review;
+    }
+
+    public void put(String promptVersion, Long essayQuestionId, String content, String review) {
+        try {
+            cache.put(keyOf(promptVersion, essayQuestionId, content), Map.of(REVIEW_FIELD, review));
+        } catch (RuntimeException e) {
+            log.warn("Failed to write essay review cache: {}", e.getMessage());
+        }
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private String keyOf(String promptVersion, Long essayQuestionId, String content) {
+        return cache.keyOf(promptVersion, String.valueOf(essayQuestionId), normalize(content));
+    }
+
+    private static String normalize(String content) {
+        return content.strip()
+                .replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,56 @@
+package com.ssafy.ssafyro.api.service.essay;
+
+import com.ssafy.ssafyro.api.service.essay.response.EssayReviewStreamResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 스트리밍으로 받은 첨삭 응답 조각을 그대로 전달하면서, {@code %%%} 구분자가 완성될 때마다
+ * newcontent, changed, totalfeedback 구역을 하나씩 잘라낸다. 스트림 하나마다 새로 만들어 쓴다.
+ */
+public class EssayReviewStreamParser {
+
+    private static final String DELIMITER = "%%%";
+    private static final List<String> SECTIONS = List.of("newcontent", "changed", "totalfeedback");
+    private static final Pattern SECTION_LABEL = Pattern.compile(
+            "^\\s*(newcontent|changed|totalfeedback)\\s*:", Pattern.CASE_INSENSITIVE
+    );
+
+    private final StringBuilder buffer = new StringBuilder();
+    private int sectionIndex = 0;
+
+    public List<EssayReviewStreamResponse> append(String token) {
+        List<EssayReviewStreamResponse> responses = new ArrayList<>();
+        responses.add(EssayReviewStreamResponse.token(currentSection(), token));
+
+        buffer.append(token);
+        int delimiterIndex;
+        while ((delimiterIndex = buffer.indexOf(DELIMITER)) >= 0) {
+            String section = clean(buffer.substring(0, delimiterIndex));
+            responses.add(EssayReviewStreamResponse.section(currentSection(), section));
+            buffer.delete(0, delimiterIndex + DELIMITER.length());
+            sectionIndex++;
+        }
+
+        return responses;
+    }
+
+    public List<EssayReviewStreamResponse> finish() {
+        if (buffer.toString().isBlank()) {
+            return List.of();
+        }
+
+        EssayReviewStreamResponse last = EssayReviewStreamResponse.section(currentSection(), clean(buffer.toString()));
+        buffer.setLength(0);
+        return List.of(last);
+    }
+
+    private String currentSection() {
+        return SECTIONS.get(Math.min(sectionIndex, SECTIONS.size() - 1));
+    }
+
+    private static String clean(String section) {
+        return SECTION_LABEL.matcher(section).replaceFirst("").strip();
+    }
+}
@@ -1,10 +1,14 @@
 package com.ssafy.ssafyro.api.service.essay;
 
+import static com.ssafy.ssafyro.api.service.ai.ChatGptResponseGenerator.ESSAY_PROMPT_VERSION;
+
 import com.ssafy.ssafyro.api.service.ai.AIResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.AiSentenceRevision;
 import com.ssafy.ssafyro.api.service.essay.request.EssayReviewServiceRequest;
 import com.ssafy.ssafyro.api.service.essay.request.EssaySaveServiceRequest;
 import com.ssafy.ssafyro.api.service.essay.response.EssayDetailResponse;
 import com.ssafy.ssafyro.api.service.essay.response.EssayReviewResponse;
+import com.ssafy.ssafyro.api.service.essay.response.EssayReviewStreamResponse;
 import com.ssafy.ssafyro.api.service.essay.response.EssaySaveResponse;
 import com.ssafy.ssafyro.api.service.essay.response.EssayUpdateResponse;
 import com.ssafy.ssafyro.domain.essay.Essay;
@@ -16,9 +20,12 @@ import com.ssafy.ssafyro.domain.user.UserRepository;
 import com.ssafy.ssafyro.error.essay.EssayNotFoundException;
 import com.ssafy.ssafyro.error.essayquestion.EssayQuestionNotFoundException;
 import com.ssafy.ssafyro.error.user.UserNotFoundException;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 
 @RequiredArgsConstructor
 @Service
@@ -26,17 +33,40 @@ import org.springframework.transaction.annotation.Transactional;
 public class EssayService {
 
     private final AIResponseGenerator aiResponseGenerator;
+    private final EssayReviewCache essayReviewCache;
 
     private final UserRepository userRepository;
     private final EssayRepository essayRepository;
     private final EssayQuestionRepository essayQuestionRepository;
 
-    public EssayReviewResponse reviewEssay(EssayReviewServiceRequest request) {
+    public EssayReviewResponse reviewEssay(Long userId, EssayReviewServiceRequest request) {
         EssayQuestion essayQuestion = getEssayQuestionBy(request.essayQuestionId());
 
-        return new EssayReviewResponse(
-                aiResponseGenerator.generateNewEssay(essayQuestion.getContent(), request.content())
-        );
+        Optional<Essay> userEssay = findEssayBy(userId, essayQuestion);
+
+        String review = userEssay.flatMap(essay -> reviewIncrementally(essay, essayQuestion, request.content()))
+                .orElseGet(() -> reviewFully(essayQuestion, request.content()));
+
+        userEssay.ifPresent(essay -> essay.recordReview(request.content(), review));
+
+        return new EssayReviewResponse(review);
+    }
+
+    @Transactional(readOnly = true)
+    public Flux<EssayReviewStreamResponse> streamReviewEssay(EssayReviewServiceRequest request) {
+        EssayQuestion essayQuestion = getEssayQuestionBy(request.essayQuestionId());
+
+        return Flux.defer(() -> {
+            EssayReviewStreamParser parser = new EssayReviewStreamParser();
+
+            Flux<String> tokens = essayReviewCache.get(ESSAY_PROMPT_VERSION, essayQuestion.getId(), request.content())
+                    .map(Flux::just)
+                    .orElseGet(() -> streamReview(essayQuestion, request.content()));
+
+            return tokens
+                    .concatMapIterable(parser::append)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(parser.finish())));
+        });
     }
 
     public EssaySaveResponse createEssayBy(Long userId, EssaySaveServiceRequest request) {
@@ -69,6 +99,61 @@ public class EssayService {
         return new EssayUpdateResponse(essay.getId());
     }
 
+    private Optional<String> reviewIncrementally(Essay essay, EssayQuestion essayQuestion, String content) {
+        if (!essay.hasReview()) {
+            return Optional.empty();
+        }
+
+        return IncrementalEssayReview.of(essay.getReviewedContent(), essay.getReview(), content)
+                .flatMap(incrementalReview -> reviseChangedSentences(incrementalReview, essayQuestion));
+    }
+
+    private Optional<String> reviseChangedSentences(IncrementalEssayReview incrementalReview,
+                                                    EssayQuestion essayQuestion) {
+        if (!incrementalReview.hasChanges()) {
+            return Optional.of(incrementalReview.merge(List.of()));
+        }
+
+        List<AiSentenceRevision> revisions = aiResponseGenerator.generateSentenceRevisions(
+                essayQuestion.getContent(),
+                incrementalReview.sentences(),
+                incrementalReview.changedIndexes()
+        );
+        if (revisions.size() != incrementalReview.changedIndexes().size()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(incrementalReview.merge(revisions));
+    }
+
+    private String reviewFully(EssayQuestion essayQuestion, String content) {
+        return essayReviewCache.get(ESSAY_PROMPT_VERSION, essayQuestion.getId(), content)
+                .orElseGet(() -> generateReview(essayQuestion, content));
+    }
+
+    private String generateReview(EssayQuestion essayQuestion, String content) {
+        String review = aiResponseGenerator.generateNewEssay(essayQuestion.getContent(), content);
+        essayReviewCache.put(ESSAY_PROMPT_VERSION, essayQuestion.getId(), content, review);
+
+        return review;
+    }
+
+    private Flux<String> streamReview(EssayQuestion essayQuestion, String content) {
+        StringBuilder review = new StringBuilder();
+
+        return aiResponseGenerator.streamNewEssay(essayQuestion.getContent(), content)
+                .doOnNext(review::append)
+                .doOnComplete(() ->
+                        essayReviewCache.put(ESSAY_PROMPT_VERSION, essayQuestion.getId(), content, review.toString())
+                );
+    }
+
+    private Optional<Essay> findEssayBy(Long userId, EssayQuestion essayQuestion) {
+        return userRepository.findById(userId)
+                .flatMap(essayRepository::findByUser)
+                .filter(essay -> essay.getQuestion().getId().equals(essayQuestion.getId()));
+    }
+
     private EssayQuestion getEssayQuestionBy(Long essayQuestionId) {
         return essayQuestionRepository.findById(essayQuestionId)
                 .orElseThrow(() -> new EssayQuestionNotFoundException("Essay question not found"));
@@ -0,0 +1,247 @@
+package com.ssafy.ssafyro.api.service.essay;
+
+import com.ssafy.ssafyro.api.service.ai.AiSentenceRevision;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 마지막으로 첨삭받은 에세이와 새 에세이를 문장 단위로 비교해, 바뀐 문장만 다시 첨삭하고 이전 첨삭 결과와 합친다.
+ * <p>
+ * 바뀌지 않은 문장은 이전 newcontent 의 같은 위치 문장과 changed 항목을 그대로 쓰고, totalfeedback 은 이전 것을 유지한다.
+ * 합친 newcontent 는 새 에세이의 문장 사이 공백과 줄바꿈을 그대로 살려 문단이 합쳐지지 않게 한다.
+ */
+public class IncrementalEssayReview {
+
+    private static final String DELIMITER = "%%%";
+    private static final String CHANGE_ARROW = "→";
+
+    private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?])\\s+|\\n+");
+    private static final Pattern SECTION_LABEL = Pattern.compile(
+            "^\\s*(newcontent|changed|totalfeedback)\\s*:", Pattern.CASE_INSENSITIVE
+    );
+
+    private final List<String> sentences;
+    private final List<String> separators;
+    private final List<String> previousRevisedSentences;
+    private final List<Integer> changedIndexes;
+    private final Map<Integer, List<String>> previousChanges;
+    private final String totalFeedback;
+
+    private IncrementalEssayReview(List<String> sentences,
+                                   List<String> separators,
+                                   List<String> previousRevisedSentences,
+                                   List<Integer> changedIndexes,
+                                   Map<Integer, List<String>> previousChanges,
+                                   String totalFeedback) {
+        this.sentences = sentences;
+        this.separators = separators;
+        this.previousRevisedSentences = previousRevisedSentences;
+        this.changedIndexes = changedIndexes;
+        this.previousChanges = previousChanges;
+        this.totalFeedback = totalFeedback;
+    }
+
+    /**
+     * 이전 첨삭 결과를 문장별로 대응시킬 수 없거나 절반 넘는 문장이 바뀌었으면 전체 첨삭이 낫다고 보고 비어 있는 값을 반환한다.
+     */
+    public static Optional<IncrementalEssayReview> of(String reviewedContent, String review, String content) {
+        String[] sections = review.split(DELIMITER, 3);
+        if (sections.length < 3) {
+            return Optional.empty();
+        }
+
+        List<String> previousSentences = split(reviewedContent);
+        List<String> previousRevised = split(clean(sections[0]));
+        List<String> sentences = split(content);
+        if (sentences.isEmpty() || previousSentences.isEmpty() || previousSentences.size() != previousRevised.size()) {
+            return Optional.empty();
+        }
+
+        int[] previousIndexes = match(previousSentences, sentences);
+        List<Integer> changedIndexes = IntStream.range(0, sentences.size())
+                .filter(index -> previousIndexes[index] < 0)
+                .boxed()
+                .toList();
+        if (changedIndexes.size() * 2 > sentences.size()) {
+            return Optional.empty();
+        }
+
+        List<String> previousRevisedSentences = Arrays.stream(previousIndexes)
+                .mapToObj(previousIndex -> previousIndex < 0 ? null : previousRevised.get(previousIndex))
+                .collect(Collectors.toList());
+
+        return Optional.of(new IncrementalEssayReview(
+                sentences,
+                separatorsOf(content, sentences),
+                previousRevisedSentences,
+                changedIndexes,
+                keptChanges(clean(sections[1]), previousSentences, previousIndexes),
+                clean(sections[2])
+        ));
+    }
+
+    public List<String> sentences() {
+        return sentences;
+    }
+
+    public List<Integer> changedIndexes() {
+        return changedIndexes;
+    }
+
+    public boolean hasChanges() {
+        return !changedIndexes.isEmpty();
+    }
+
+    public String merge(List<AiSentenceRevision> revisions) {
+        Map<Integer, AiSentenceRevision> revisionByIndex = revisions.stream()
+                .collect(Collectors.toMap(AiSentenceRevision::index, Function.identity(), (first, second) -> first));
+
+        List<String> newContent = new ArrayList<>();
+        Map<Integer, List<String>> changes = new TreeMap<>(previousChanges);
+        for (int index = 0; index < sentences.size(); index++) {
+            String previousRevised = previousRevisedSentences.get(index);
+            if (previousRevised != null) {
+                newContent.add(previousRevised);
+                continue;
+            }
+
+            AiSentenceRevision revision = revisionByIndex.get(index);
+            String sentence = sentences.get(index);
+            if (revision == null || normalize(revision.revised()).equals(normalize(sentence))) {
+                newContent.add(sentence);
+                continue;
+            }
+
+            newContent.add(revision.revised());
+            changes.computeIfAbsent(index, key -> new ArrayList<>())
+                    .add(changeOf(sentence, revision));
+        }
+
+        StringBuilder joined = new StringBuilder();
+        for (int index = 0; index < newContent.size(); index++) {
+            joined.append(newContent.get(index))
+                    .append(separators.get(index));
+        }
+
+        return "newcontent:\n" + joined + "\n"
+                + DELIMITER + "\n"
+                + "changed:\n" + changes.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.joining("\n")) + "\n"
+                + DELIMITER + "\n"
+                + "totalfeedback:\n" + totalFeedback;
+    }
+
+    // 수정 전 문장이 새 에세이에도 그대로 남아 있는 changed 항목만 새 문장 위치와 함께 남긴다.
+    private static Map<Integer, List<String>> keptChanges(String changed,
+                                                         List<String> previousSentences,
+                                                         int[] previousIndexes) {
+        int[] newIndexes = new int[previousSentences.size()];
+        Arrays.fill(newIndexes, -1);
+        for (int index = 0; index < previousIndexes.length; index++) {
+            if (previousIndexes[index] >= 0) {
+                newIndexes[previousIndexes[index]] = index;
+            }
+        }
+
+        Map<Integer, List<String>> kept = new TreeMap<>();
+        for (String line : changed.split("\\n")) {
+            String entry = line.strip();
+            int arrow = entry.indexOf(CHANGE_ARROW);
+            if (!entry.startsWith("-") || arrow < 0) {
+                continue;
+            }
+
+            String before = normalize(entry.substring(1, arrow));
+            if (before.isEmpty()) {
+                continue;
+            }
+            for (int previousIndex = 0; previousIndex < previousSentences.size(); previousIndex++) {
+                String sentence = normalize(previousSentences.get(previousIndex));
+                if (newIndexes[previousIndex] >= 0 && (sentence.contains(before) || before.contains(sentence))) {
+                    kept.computeIfAbsent(newIndexes[previousIndex], key -> new ArrayList<>()).add(entry);
+                    break;
+                }
+            }
+        }
+
+        return kept;
+    }
+
+    // 최장 공통 부분열로 새 문장마다 대응하는 이전 문장의 위치를 찾는다. 대응하는 문장이 없으면 -1 이다.
+    private static int[] match(List<String> previousSentences, List<String> sentences) {
+        int previousSize = previousSentences.size();
+        int size = sentences.size();
+        int[][] lengths = new int[previousSize + 1][size + 1];
+        for (int i = previousSize - 1; i >= 0; i--) {
+            for (int j = size - 1; j >= 0; j--) {
+                lengths[i][j] = normalize(previousSentences.get(i)).equals(normalize(sentences.get(j)))
+                        ? lengths[i + 1][j + 1] + 1
+                        : Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+            }
+        }
+
+        int[] previousIndexes = new int[size];
+        Arrays.fill(previousIndexes, -1);
+        int i = 0;
+        int j = 0;
+        while (i < previousSize && j < size) {
+            if (normalize(previousSentences.get(i)).equals(normalize(sentences.get(j)))) {
+                previousIndexes[j] = i;
+                i++;
+                j++;
+            } else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return previousIndexes;
+    }
+
+    private static String changeOf(String sentence, AiSentenceRevision revision) {
+        String change = "- " + sentence + " " + CHANGE_ARROW + " " + revision.revised();
+        if (revision.reason().isBlank()) {
+            return change;
+        }
+        return change + " (" + revision.reason() + ")";
+    }
+
+    private static List<String> split(String content) {
+        return Arrays.stream(SENTENCE_BOUNDARY.split(content.strip()))
+                .map(String::strip)
+                .filter(sentence -> !sentence.isEmpty())
+                .toList();
+    }
+
+    // 각 문장 뒤에 오는 원래 공백과 줄바꿈을 찾는다. 마지막 문장 뒤는 빈 문자열이다.
+    private static List<String> separatorsOf(String content, List<String> sentences) {
+        List<String> separators = new ArrayList<>(sentences.size());
+        int end = content.indexOf(sentences.get(0)) + sentences.get(0).length();
+        for (int index = 1; index < sentences.size(); index++) {
+            int start = content.indexOf(sentences.get(index), end);
+            separators.add(content.substring(end, start));
+            end = start + sentences.get(index).length();
+        }
+        separators.add("");
+        return separators;
+    }
+
+    private static String clean(String section) {
+        return SECTION_LABEL.matcher(section).replaceFirst("").strip();
+    }
+
+    private static String normalize(String sentence) {
+        return sentence.strip()
+                .replaceAll("\\s+", " ");
+    }
+}
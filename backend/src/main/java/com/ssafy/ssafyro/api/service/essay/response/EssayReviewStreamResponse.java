@@ -0,0 +1,15 @@
+package com.ssafy.ssafyro.api.service.essay.response;
+
+public record EssayReviewStreamResponse(String type, String section, String content) {
+
+    public static final String TOKEN = "token";
+    public static final String SECTION = "section";
+
+    public static EssayReviewStreamResponse token(String section, String content) {
+        return new EssayReviewStreamResponse(TOKEN, section, content);
+    }
+
+    public static EssayReviewStreamResponse section(String section, String content) {
+        return new EssayReviewStreamResponse(SECTION, section, content);
+    }
+}
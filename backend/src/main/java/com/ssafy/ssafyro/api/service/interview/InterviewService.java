@@ -1,6 +1,8 @@
 package com.ssafy.ssafyro.api.service.interview;
 
 import com.ssafy.ssafyro.api.service.ai.AIResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.SingleFlight;
+import com.ssafy.ssafyro.api.service.article.ArticlePool;
 import com.ssafy.ssafyro.api.service.interview.request.InterviewStageServiceRequest;
 import com.ssafy.ssafyro.api.service.interview.request.QnAResultCreateServiceRequest;
 import com.ssafy.ssafyro.api.service.interview.request.ScoreServiceRequest;
@@ -11,19 +13,24 @@ import com.ssafy.ssafyro.api.service.interview.response.InterviewStageResponse;
 import com.ssafy.ssafyro.api.service.interview.response.QnAResultCreateResponse;
 import com.ssafy.ssafyro.api.service.interview.response.ScoreResponse;
 import com.ssafy.ssafyro.api.service.interview.response.StartResponse;
+import com.ssafy.ssafyro.api.service.room.RoomMatchmaker;
 import com.ssafy.ssafyro.domain.article.Article;
 import com.ssafy.ssafyro.domain.article.ArticleRepository;
 import com.ssafy.ssafyro.domain.interview.InterviewRedisRepository;
 import com.ssafy.ssafyro.domain.room.Stage;
 import com.ssafy.ssafyro.domain.room.entity.Room;
 import com.ssafy.ssafyro.domain.room.entity.RoomRepository;
+import com.ssafy.ssafyro.domain.room.redis.RoomArticleRedisRepository;
+import com.ssafy.ssafyro.domain.room.redis.RoomParticipantRedisRepository;
+import com.ssafy.ssafyro.domain.room.redis.RoomParticipants;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedisRepository;
 import com.ssafy.ssafyro.error.interview.InterviewStageOutOfException;
 import com.ssafy.ssafyro.error.room.RoomNotFoundException;
-import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
@@ -32,16 +39,23 @@ import org.springframework.transaction.annotation.Transactional;
 public class InterviewService {
 
     private final AIResponseGenerator aiResponseGenerator;
+    private final SingleFlight<String, ArticleResponse> articleSingleFlight;
+    private final ArticlePool articlePool;
 
     private final RoomRepository roomRepository;
     private final ArticleRepository articleRepository;
     private final RoomRedisRepository roomRedisRepository;
+    private final RoomParticipantRedisRepository roomParticipantRedisRepository;
+    private final RoomArticleRedisRepository roomArticleRedisRepository;
 
     private final InterviewRedisRepository interviewRedisRepository;
 
+    private final RoomMatchmaker roomMatchmaker;
+
     public StartResponse startInterview(String roomId) {
         RoomRedis roomRedis = getRoomRedis(roomId);
         roomRedis.startInterview();
+        roomMatchmaker.remove(roomId);
 
         return new StartResponse(roomRedisRepository.save(roomRedis));
     }
@@ -49,6 +63,7 @@ public class InterviewService {
     public FinishResponse finishInterview(String roomId) {
         RoomRedis roomRedis = getRoomRedis(roomId);
         roomRedis.finishInterview();
+        roomMatchmaker.remove(roomId);
 
         if (!roomRepository.existsById(roomId)) {
             Room room = roomRedis.toEntity();
@@ -59,45 +74,74 @@ public class InterviewService {
     }
 
     public QnAResultCreateResponse createQnAResult(Long userId, QnAResultCreateServiceRequest request) {
-        return QnAResultCreateResponse.of(interviewRedisRepository.save(request.toEntity(userId)));
+        return QnAResultCreateResponse.of(interviewRedisRepository.save(request.roomId(), request.toEntity(userId)));
     }
 
     public ScoreResponse scoreQnAResult(ScoreServiceRequest request) {
-        return ScoreResponse.of(interviewRedisRepository.scoreInterview(request.userId(), request.evaluationScore()));
+        return ScoreResponse.of(
+                interviewRedisRepository.scoreInterview(request.roomId(), request.userId(), request.evaluationScore())
+        );
     }
 
+    // 기사는 방에 배정하기 전에 커밋되어야 다른 노드에서 배정된 기사를 조회할 수 있다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArticleResponse getArticle(String roomId) {
-        Article article = articleRepository.save(
-                aiResponseGenerator.generateArticle().toEntity()
-        );
+        RoomRedis roomRedis = getRoomRedis(roomId);
 
-        return new ArticleResponse(
-                article.getId(),
-                article.getTitle(),
-                article.getContent(),
-                List.of(article.getQuestion1(), article.getQuestion2())
-        );
+        return findPinnedArticle(roomId)
+                .orElseGet(() -> articleSingleFlight.execute(roomId, () -> assignArticle(roomRedis)));
     }
 
     public InterviewStageResponse changeInterviewer(String roomId, InterviewStageServiceRequest request) {
         RoomRedis roomRedis = getRoomRedis(roomId);
+        RoomParticipants participants = roomParticipantRedisRepository.findAllBy(roomRedis.getId());
         Stage nowStage = request.nowStage();
 
-        if (roomRedis.isStageOver(nowStage.getIndex())) {
+        if (participants.isStageOver(nowStage.getIndex())) {
             throw new InterviewStageOutOfException("모든 순서가 끝났습니다.");
         }
 
         return new InterviewStageResponse(
                 nowStage,
-                roomRedis.getNowUser(nowStage.getIndex())
+                participants.getNowUser(nowStage.getIndex())
         );
     }
 
     public ExitResponse exitInterview(String roomId, Long userId) {
         RoomRedis roomRedis = getRoomRedis(roomId);
-        roomRedis.removeParticipant(userId);
-        roomRedisRepository.save(roomRedis);
-        return ExitResponse.of(roomRedis.getUserList());
+        RoomParticipants remains = roomParticipantRedisRepository.leave(roomRedis, userId);
+        roomMatchmaker.register(roomRedis, remains.size());
+        return ExitResponse.of(remains.userIds());
+    }
+
+    private Optional<ArticleResponse> findPinnedArticle(String roomId) {
+        return roomArticleRedisRepository.findArticleIdBy(roomId)
+                .flatMap(articleRepository::findById)
+                .map(ArticleResponse::of);
+    }
+
+    private ArticleResponse assignArticle(RoomRedis roomRedis) {
+        Optional<ArticleResponse> pinned = findPinnedArticle(roomRedis.getId());
+        if (pinned.isPresent()) {
+            return pinned.get();
+        }
+
+        Article article = articlePool.take()
+                .orElseGet(() -> articleRepository.save(aiResponseGenerator.generateArticle().toEntity()));
+
+        Long pinnedId = roomArticleRedisRepository.pin(
+                roomRedis.getId(),
+                article.getId(),
+                roomRedis.getStatus().getTtl()
+        );
+
+        if (pinnedId.equals(article.getId())) {
+            return ArticleResponse.of(article);
+        }
+
+        return articleRepository.findById(pinnedId)
+                .map(ArticleResponse::of)
+                .orElseGet(() -> ArticleResponse.of(article));
     }
 
     private RoomRedis getRoomRedis(String roomId) {
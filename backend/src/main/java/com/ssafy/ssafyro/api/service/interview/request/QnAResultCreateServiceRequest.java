@@ -4,7 +4,8 @@ import com.ssafy.ssafyro.domain.interview.InterviewRedis;
 import lombok.Builder;
 
 @Builder
-public record QnAResultCreateServiceRequest(String question,
+public record QnAResultCreateServiceRequest(String roomId,
+                                            String question,
                                             String answer,
                                             int pronunciationScore,
                                             double happy,
@@ -1,4 +1,4 @@
 package com.ssafy.ssafyro.api.service.interview.request;
 
-public record ScoreServiceRequest(Long userId, Integer evaluationScore) {
+public record ScoreServiceRequest(String roomId, Long userId, Integer evaluationScore) {
 }
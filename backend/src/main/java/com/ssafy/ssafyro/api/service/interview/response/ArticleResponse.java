@@ -1,6 +1,16 @@
 package com.ssafy.ssafyro.api.service.interview.response;
 
+import com.ssafy.ssafyro.domain.article.Article;
 import java.util.List;
 
 public record ArticleResponse(Long id, String title, String content, List<String> question) {
+
+    public static ArticleResponse of(Article article) {
+        return new ArticleResponse(
+                article.getId(),
+                article.getTitle(),
+                article.getContent(),
+                List.of(article.getQuestion1(), article.getQuestion2())
+        );
+    }
 }
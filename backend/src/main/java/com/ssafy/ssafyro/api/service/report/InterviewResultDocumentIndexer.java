@@ -0,0 +1,186 @@
+package com.ssafy.ssafyro.api.service.report;
+
+import com.ssafy.ssafyro.domain.interviewresult.InterviewResultDocument;
+import com.ssafy.ssafyro.domain.interviewresult.InterviewResultDocumentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색용 면접 결과 문서를 큐에 모아 여러 레포트의 문서를 한 번의 bulk 요청으로 색인한다.
+ * <p>
+ * 문서가 batchSize 개 모이거나 첫 문서가 들어온 뒤 flushInterval 이 지나면 색인한다.
+ * 큐가 가득 차면 레포트 생성을 막지 않도록 문서를 버리고, 색인 실패는 간격을 늘려가며 maxRetries 번까지 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class InterviewResultDocumentIndexer {
+
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
+    private final InterviewResultDocumentRepository interviewResultDocumentRepository;
+    private final BlockingQueue<InterviewResultDocument> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final int maxRetries;
+
+    private final Counter indexed;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer bulkLatency;
+
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public InterviewResultDocumentIndexer(InterviewResultDocumentRepository interviewResultDocumentRepository,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${report.indexer.queue-capacity:1000}") int queueCapacity,
+                                          @Value("${report.indexer.batch-size:100}") int batchSize,
+                                          @Value("${report.indexer.flush-interval:1s}") Duration flushInterval,
+                                          @Value("${report.indexer.max-retries:3}") int maxRetries) {
+        this.interviewResultDocumentRepository = interviewResultDocumentRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxRetries = maxRetries;
+        this.indexed = Counter.builder("report.indexer.documents")
+                .tag("result", "indexed")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("report.indexer.documents")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        this.failed = Counter.builder("report.indexer.documents")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.bulkLatency = Timer.builder("report.indexer.bulk")
+                .description("bulk 색인 요청 시간")
+                .register(meterRegistry);
+        Gauge.builder("report.indexer.queue", queue, Collection::size)
+                .description("색인을 기다리는 문서 수")
+                .register(meterRegistry);
+        this.worker = new Thread(this::run, "interview-result-indexer");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * 큐에 넣은 문서 수를 반환한다. 큐가 가득 차서 넣지 못한 문서는 버린다.
+     */
+    public int enqueue(List<InterviewResultDocument> documents) {
+        int accepted = 0;
+        for (InterviewResultDocument document : documents) {
+            if (queue.offer(document)) {
+                accepted++;
+            }
+        }
+
+        if (accepted < documents.size()) {
+            dropped.increment(documents.size() - accepted);
+            log.warn("Dropped {} interview result documents, indexing queue is full", documents.size() - accepted);
+        }
+        return accepted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(flushInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<InterviewResultDocument> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            index(remaining);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<InterviewResultDocument> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    index(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<InterviewResultDocument> nextBatch() throws InterruptedException {
+        List<InterviewResultDocument> batch = new ArrayList<>(batchSize);
+        InterviewResultDocument first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+
+            InterviewResultDocument next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+
+        return batch;
+    }
+
+    private void index(List<InterviewResultDocument> batch) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            try {
+                bulkLatency.record(() -> interviewResultDocumentRepository.saveAll(batch));
+                indexed.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to index {} interview result documents (attempt {}/{})",
+                        batch.size(), attempt + 1, maxRetries + 1, e);
+            }
+
+            if (attempt < maxRetries && !sleep(RETRY_BACKOFF.multipliedBy(1L << attempt))) {
+                break;
+            }
+        }
+
+        failed.increment(batch.size());
+    }
+
+    private boolean sleep(Duration backoff) {
+        try {
+            Thread.sleep(backoff.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
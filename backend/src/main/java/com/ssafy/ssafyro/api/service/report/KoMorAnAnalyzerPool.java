@@ -0,0 +1,112 @@
+package com.ssafy.ssafyro.api.service.report;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link Komoran} 분석기를 설정한 수만큼 만들어 두고 빌려 쓴다. 분석기 하나는 한 번에 한 스레드만 사용한다.
+ * <p>
+ * FULL 모델 하나가 힙을 수백 MB 차지하므로 풀 크기는 코어 수가 아니라 힙 크기에 맞춰 komoran.pool.size 로 정한다.
+ * <p>
+ * FULL 모델 로딩은 수 초가 걸리므로 애플리케이션 시작 시 백그라운드에서 분석기를 하나씩 만들고 예열한다.
+ * 준비된 분석기가 없으면 준비될 때까지 기다린다.
+ */
+@Slf4j
+@Component
+public class KoMorAnAnalyzerPool {
+
+    private static final String WARMUP_SENTENCE = "면접 답변에서 핵심 키워드를 추출합니다.";
+
+    private final int size;
+    private final Duration acquireTimeout;
+    private final BlockingQueue<Komoran> analyzers;
+    private final ExecutorService warmupExecutor = Executors.newSingleThreadExecutor();
+
+    private final Timer acquireLatency;
+    private final Timer analyzeLatency;
+
+    public KoMorAnAnalyzerPool(MeterRegistry meterRegistry,
+                               @Value("${komoran.pool.size:2}") int size,
+                               @Value("${komoran.pool.acquire-timeout:30s}") Duration acquireTimeout) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("komoran.pool.size must be positive: " + size);
+        }
+        this.size = size;
+        this.acquireTimeout = acquireTimeout;
+        this.analyzers = new ArrayBlockingQueue<>(size);
+        this.acquireLatency = Timer.builder("komoran.pool.acquire")
+                .description("분석기를 빌리기까지 기다린 시간")
+                .register(meterRegistry);
+        this.analyzeLatency = Timer.builder("komoran.analyze")
+                .description("형태소 분석 시간")
+                .register(meterRegistry);
+        Gauge.builder("komoran.pool.available", analyzers, Collection::size)
+                .description("사용할 수 있는 분석기 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void warmUp() {
+        warmupExecutor.execute(() -> {
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < size; i++) {
+                try {
+                    Komoran komoran = new Komoran(DEFAULT_MODEL.FULL);
+                    komoran.analyze(WARMUP_SENTENCE);
+                    analyzers.offer(komoran);
+                } catch (RuntimeException e) {
+                    log.error("Failed to warm up Komoran analyzer {}/{}", i + 1, size, e);
+                    return;
+                }
+            }
+            log.info("Warmed up {} Komoran analyzers in {} ms", size,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        });
+    }
+
+    public List<String> extractNouns(String sentence) {
+        Komoran komoran = acquire();
+        try {
+            return analyzeLatency.record(() -> komoran.analyze(sentence).getNouns());
+        } finally {
+            analyzers.offer(komoran);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        warmupExecutor.shutdownNow();
+    }
+
+    private Komoran acquire() {
+        long startedAt = System.nanoTime();
+        try {
+            Komoran komoran = analyzers.poll(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (komoran == null) {
+                throw new IllegalStateException("Timed out waiting for Komoran analyzer");
+            }
+            return komoran;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Komoran analyzer", e);
+        } finally {
+            acquireLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
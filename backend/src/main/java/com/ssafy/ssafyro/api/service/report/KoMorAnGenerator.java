@@ -1,15 +1,102 @@
 package com.ssafy.ssafyro.api.service.report;
 
-import com.ssafy.ssafyro.config.KoMorAnConfig;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
+/**
+ * 면접 질문, 답변에서 명사 태그를 추출한다.
+ * <p>
+ * 질문은 몇 개 안 되는 질문이 계속 반복되므로, 미리 계산해 둔 태그 표를 먼저 찾고 없으면 크기가 제한된 캐시를 거쳐 분석한다.
+ * 태그 표는 한 줄에 {@code 질문<TAB>태그1,태그2} 형식이며 파일이 없으면 사용하지 않는다.
+ */
+@Slf4j
 @Component
 public class KoMorAnGenerator {
 
+    private final KoMorAnAnalyzerPool analyzerPool;
+    private final Map<String, List<String>> knownQuestionTags;
+    private final Cache<String, List<String>> questionTagCache;
+    private final Counter knownQuestionHits;
+
+    public KoMorAnGenerator(KoMorAnAnalyzerPool analyzerPool,
+                            MeterRegistry meterRegistry,
+                            @Value("${komoran.tag-cache.maximum-size:2000}") long maximumSize,
+                            @Value("${komoran.tag-cache.known-tags:classpath:komoran/question-tags.tsv}")
+                            Resource knownTags) {
+        this.analyzerPool = analyzerPool;
+        this.knownQuestionTags = load(knownTags);
+        this.questionTagCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.knownQuestionHits = Counter.builder("komoran.tag-cache.known")
+                .description("미리 계산한 태그 표에서 찾은 질문 수")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, questionTagCache, "komoran.tag-cache");
+    }
+
     public List<String> createTags(String sentence) {
-        return KoMorAnConfig.getInstance()
-                .analyze(sentence)
-                .getNouns();
+        return analyzerPool.extractNouns(sentence);
+    }
+
+    public List<String> createQuestionTags(String question) {
+        String key = normalize(question);
+
+        List<String> knownTags = knownQuestionTags.get(key);
+        if (knownTags != null) {
+            knownQuestionHits.increment();
+            return knownTags;
+        }
+
+        return questionTagCache.get(key, ignored -> List.copyOf(analyzerPool.extractNouns(question)));
+    }
+
+    private static Map<String, List<String>> load(Resource knownTags) {
+        if (knownTags == null || !knownTags.exists()) {
+            return Map.of();
+        }
+
+        Map<String, List<String>> tags = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(knownTags.getInputStream(), UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t", 2);
+                if (line.isBlank() || line.startsWith("#") || columns.length < 2) {
+                    continue;
+                }
+                tags.put(normalize(columns[0]), Arrays.stream(columns[1].split(","))
+                        .map(String::strip)
+                        .filter(tag -> !tag.isEmpty())
+                        .toList());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to load known question tags from {}: {}", knownTags, e.getMessage());
+            return Map.of();
+        }
+
+        log.info("Loaded {} known question tags", tags.size());
+        return Map.copyOf(tags);
+    }
+
+    private static String normalize(String sentence) {
+        return sentence.strip()
+                .replaceAll("\\s+", " ");
     }
 }
@@ -0,0 +1,4 @@
+package com.ssafy.ssafyro.api.service.report;
+
+public record ReportGenerateEvent(Long reportId, String roomId, Long userId) {
+}
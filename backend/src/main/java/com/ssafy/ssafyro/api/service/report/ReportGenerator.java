@@ -0,0 +1,156 @@
+package com.ssafy.ssafyro.api.service.report;
+
+import static com.ssafy.ssafyro.api.ApiUtils.success;
+
+import com.ssafy.ssafyro.api.service.ai.AIResponseGenerator;
+import com.ssafy.ssafyro.api.service.report.response.ReportStatusResponse;
+import com.ssafy.ssafyro.domain.interview.InterviewInfos;
+import com.ssafy.ssafyro.domain.interview.InterviewRedisRepository;
+import com.ssafy.ssafyro.domain.interviewresult.InterviewResultDocument;
+import com.ssafy.ssafyro.domain.interviewresult.InterviewResultRepository;
+import com.ssafy.ssafyro.domain.report.Report;
+import com.ssafy.ssafyro.domain.report.ReportRepository;
+import com.ssafy.ssafyro.error.report.ReportNotFoundException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 생성 중(PENDING) 상태로 저장된 레포트의 면접 결과를 요청 스레드 밖에서 만든다.
+ * 답변 피드백은 여러 개씩 묶어 제한된 스레드 풀에서 동시에 생성하고, 결과 저장만 짧은 트랜잭션으로 처리한다.
+ * 풀은 {@link com.ssafy.ssafyro.config.ReportExecutorConfig} 에서 만들며, 큐가 가득 차 작업이 거절되면 레포트를 실패로 바꾼다.
+ * 검색용 문서의 태그는 피드백 생성과 함께 답변마다 병렬로 추출하고, 색인은 {@link InterviewResultDocumentIndexer} 에 넘긴다.
+ */
+@Slf4j
+@Component
+public class ReportGenerator {
+
+    private static final String REPORT_TOPIC = "/topic/report/";
+
+    private final KoMorAnGenerator koMorAnGenerator;
+    private final AIResponseGenerator aiResponseGenerator;
+
+    private final ReportRepository reportRepository;
+    private final InterviewResultRepository interviewResultRepository;
+    private final InterviewRedisRepository interviewRedisRepository;
+    private final InterviewResultDocumentIndexer interviewResultDocumentIndexer;
+
+    private final TransactionTemplate transactionTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final int feedbackBatchSize;
+    private final Executor jobExecutor;
+    private final Executor feedbackExecutor;
+    private final Executor tagExecutor;
+
+    public ReportGenerator(KoMorAnGenerator koMorAnGenerator,
+                           AIResponseGenerator aiResponseGenerator,
+                           ReportRepository reportRepository,
+                           InterviewResultRepository interviewResultRepository,
+                           InterviewRedisRepository interviewRedisRepository,
+                           InterviewResultDocumentIndexer interviewResultDocumentIndexer,
+                           PlatformTransactionManager transactionManager,
+                           SimpMessagingTemplate messagingTemplate,
+                           @Qualifier("reportJobExecutor") Executor jobExecutor,
+                           @Qualifier("reportFeedbackExecutor") Executor feedbackExecutor,
+                           @Qualifier("reportTagExecutor") Executor tagExecutor,
+                           @Value("${report.generator.feedback-batch-size:5}") int feedbackBatchSize) {
+        this.koMorAnGenerator = koMorAnGenerator;
+        this.aiResponseGenerator = aiResponseGenerator;
+        this.reportRepository = reportRepository;
+        this.interviewResultRepository = interviewResultRepository;
+        this.interviewRedisRepository = interviewRedisRepository;
+        this.interviewResultDocumentIndexer = interviewResultDocumentIndexer;
+        // 거절된 작업은 AFTER_COMMIT 리스너 안에서 실패로 바꾸므로, 이미 커밋된 트랜잭션에 참여하지 않도록 항상 새 트랜잭션을 연다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.messagingTemplate = messagingTemplate;
+        this.feedbackBatchSize = feedbackBatchSize;
+        this.jobExecutor = jobExecutor;
+        this.feedbackExecutor = feedbackExecutor;
+        this.tagExecutor = tagExecutor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGenerate(ReportGenerateEvent event) {
+        try {
+            jobExecutor.execute(() -> generate(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("Rejected report generation {}, job queue is full", event.reportId());
+            fail(event);
+        }
+    }
+
+    private void generate(ReportGenerateEvent event) {
+        List<CompletableFuture<InterviewResultDocument>> documents;
+        Report report;
+        try {
+            InterviewInfos interviewInfos = interviewRedisRepository.findBy(event.roomId(), event.userId());
+            documents = interviewInfos.generateInterviewResultDocuments(koMorAnGenerator, tagExecutor);
+            List<String> feedbacks = interviewInfos.generateFeedbacks(aiResponseGenerator, feedbackBatchSize,
+                            feedbackExecutor).stream()
+                    .map(CompletableFuture::join)
+                    .flatMap(List::stream)
+                    .toList();
+
+            report = transactionTemplate.execute(status -> {
+                Report pending = getReport(event.reportId());
+                interviewResultRepository.saveAll(interviewInfos.generateInterviewResults(feedbacks, pending));
+                pending.complete();
+                return pending;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to generate report {}", event.reportId(), e);
+            fail(event);
+            return;
+        }
+
+        // 완료가 커밋된 뒤의 정리와 알림은 실패해도 레포트를 실패로 되돌리지 않는다.
+        try {
+            interviewRedisRepository.delete(event.roomId(), event.userId());
+            notifyStatus(event.userId(), ReportStatusResponse.of(report));
+        } catch (RuntimeException e) {
+            log.warn("Failed to finish generated report {}", event.reportId(), e);
+        }
+        indexDocuments(documents);
+    }
+
+    // 피드백, 태그 작업이 풀에서 거절되어도 여기로 와서 레포트를 실패로 남긴다.
+    private void fail(ReportGenerateEvent event) {
+        notifyStatus(event.userId(), transactionTemplate.execute(status -> {
+            Report report = getReport(event.reportId());
+            report.fail();
+            return ReportStatusResponse.of(report);
+        }));
+    }
+
+    // 검색용 문서는 부가 데이터이므로 태그 추출이나 색인에 실패해도 레포트는 완료로 둔다.
+    private void indexDocuments(List<CompletableFuture<InterviewResultDocument>> documents) {
+        try {
+            interviewResultDocumentIndexer.enqueue(documents.stream()
+                    .map(CompletableFuture::join)
+                    .toList());
+        } catch (RuntimeException e) {
+            log.warn("Failed to extract tags of interview result documents", e);
+        }
+    }
+
+    private void notifyStatus(Long userId, ReportStatusResponse response) {
+        messagingTemplate.convertAndSend(REPORT_TOPIC + userId, success(response));
+    }
+
+    private Report getReport(Long reportId) {
+        return reportRepository.findById(reportId)
+                .orElseThrow(() -> new ReportNotFoundException("Report not found"));
+    }
+}
@@ -1,11 +1,11 @@
 package com.ssafy.ssafyro.api.service.report;
 
-import com.ssafy.ssafyro.api.service.ai.AIResponseGenerator;
 import com.ssafy.ssafyro.api.service.report.request.ReportCreateServiceRequest;
 import com.ssafy.ssafyro.api.service.report.request.ReportsScoreServiceRequest;
 import com.ssafy.ssafyro.api.service.report.response.ReportCreateResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportPresentationResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportResponse;
+import com.ssafy.ssafyro.api.service.report.response.ReportStatusResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportsResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportsStatisticExpressionResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportsStatisticUserScoreResponse;
@@ -16,12 +16,12 @@ import com.ssafy.ssafyro.domain.article.ArticleRepository;
 import com.ssafy.ssafyro.domain.interview.InterviewInfos;
 import com.ssafy.ssafyro.domain.interview.InterviewRedisRepository;
 import com.ssafy.ssafyro.domain.interviewresult.InterviewResult;
-import com.ssafy.ssafyro.domain.interviewresult.InterviewResultDocumentRepository;
 import com.ssafy.ssafyro.domain.interviewresult.InterviewResultRepository;
 import com.ssafy.ssafyro.domain.report.PersonalityInterviewReport;
 import com.ssafy.ssafyro.domain.report.PresentationInterviewReport;
 import com.ssafy.ssafyro.domain.report.Report;
 import com.ssafy.ssafyro.domain.report.ReportRepository;
+import com.ssafy.ssafyro.domain.report.ReportStatus;
 import com.ssafy.ssafyro.domain.room.entity.Room;
 import com.ssafy.ssafyro.domain.room.entity.RoomRepository;
 import com.ssafy.ssafyro.domain.user.User;
@@ -33,6 +33,7 @@ import com.ssafy.ssafyro.error.room.RoomNotFoundException;
 import com.ssafy.ssafyro.error.user.UserNotFoundException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,9 +43,6 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ReportService {
 
-    private final KoMorAnGenerator koMorAnGenerator;
-    private final AIResponseGenerator aiResponseGenerator;
-
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final ReportRepository reportRepository;
@@ -52,13 +50,15 @@ public class ReportService {
     private final InterviewResultRepository interviewResultRepository;
 
     private final InterviewRedisRepository interviewRedisRepository;
-    private final InterviewResultDocumentRepository interviewResultDocumentRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     public ReportsResponse getReports(Long userId, Pageable pageable) {
         User user = getUser(userId);
 
         return ReportsResponse.of(
-                reportRepository.findAllByUserOrderByCreatedDateDesc(user, pageable).getContent()
+                reportRepository.findAllByUserAndStatusOrderByCreatedDateDesc(user, ReportStatus.DONE, pageable)
+                        .getContent()
         );
     }
 
@@ -83,24 +83,20 @@ public class ReportService {
 
     @Transactional
     public ReportCreateResponse createReport(ReportCreateServiceRequest request) {
-        InterviewInfos interviewInfos = interviewRedisRepository.findBy(request.userId());
+        InterviewInfos interviewInfos = interviewRedisRepository.findBy(request.roomId(), request.userId());
 
         Report report = createReportBy(request, interviewInfos);
         reportRepository.save(report);
 
-        interviewRedisRepository.delete(request.userId());
-
-        interviewResultRepository.saveAll(
-                interviewInfos.generateInterviewResults(aiResponseGenerator, report)
-        );
-
-        interviewResultDocumentRepository.saveAll(
-                interviewInfos.generateInterviewResultDocuments(koMorAnGenerator)
-        );
+        eventPublisher.publishEvent(new ReportGenerateEvent(report.getId(), request.roomId(), request.userId()));
 
         return ReportCreateResponse.of(report);
     }
 
+    public ReportStatusResponse getReportStatus(Long reportId) {
+        return ReportStatusResponse.of(getReportBy(reportId));
+    }
+
     public ReportsUserAverageResponse getReportsUserAverage(Long userId, ReportsScoreServiceRequest request) {
         return reportRepository.findTotalAvgBy(request.roomType(), getUser(userId))
                 .orElseThrow(() -> new ReportNotFoundException("Report not found"))
@@ -1,10 +1,11 @@
 package com.ssafy.ssafyro.api.service.report.response;
 
 import com.ssafy.ssafyro.domain.report.Report;
+import com.ssafy.ssafyro.domain.report.ReportStatus;
 
-public record ReportCreateResponse(Long userId, Long reportId) {
+public record ReportCreateResponse(Long userId, Long reportId, ReportStatus status) {
 
     public static ReportCreateResponse of(Report report) {
-        return new ReportCreateResponse(report.getUserId(), report.getId());
+        return new ReportCreateResponse(report.getUserId(), report.getId(), report.getStatus());
     }
 }
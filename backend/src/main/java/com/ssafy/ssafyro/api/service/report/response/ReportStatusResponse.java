@@ -0,0 +1,11 @@
+package com.ssafy.ssafyro.api.service.report.response;
+
+import com.ssafy.ssafyro.domain.report.Report;
+import com.ssafy.ssafyro.domain.report.ReportStatus;
+
+public record ReportStatusResponse(Long reportId, ReportStatus status) {
+
+    public static ReportStatusResponse of(Report report) {
+        return new ReportStatusResponse(report.getId(), report.getStatus());
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssafy.ssafyro.api.service.room;
+
+record RoomCandidate(String roomId, int capacity, long createdAt, int participantCount, int reservedCount) {
+
+    int fill() {
+        return participantCount + reservedCount;
+    }
+
+    boolean hasSeat() {
+        return fill() < capacity;
+    }
+
+    RoomCandidate withParticipantCount(int participantCount, int reservedCount) {
+        return new RoomCandidate(roomId, capacity, createdAt, participantCount, reservedCount);
+    }
+
+    RoomCandidate withReservedCount(int reservedCount) {
+        return new RoomCandidate(roomId, capacity, createdAt, participantCount, reservedCount);
+    }
+}
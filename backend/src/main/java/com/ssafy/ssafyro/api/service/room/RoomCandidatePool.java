@@ -0,0 +1,134 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * 한 RoomType 의 빠른 입장 후보 방 목록.
+ * 가장 많이 찬 방, 같은 인원이면 먼저 만들어진 방이 앞에 오도록 정렬하며 모든 연산은 O(log n)이다.
+ * 빠른 입장으로 배정된 자리는 실제 입장 전까지 일정 시간 예약으로 잡아둔다.
+ */
+class RoomCandidatePool {
+
+    private static final Comparator<RoomCandidate> BEST_FIRST = Comparator
+            .comparingInt(RoomCandidate::fill).reversed()
+            .thenComparingLong(RoomCandidate::createdAt)
+            .thenComparing(RoomCandidate::roomId);
+
+    private final long reservationMillis;
+
+    private final NavigableSet<RoomCandidate> available = new TreeSet<>(BEST_FIRST);
+    private final Map<String, RoomCandidate> candidates = new HashMap<>();
+
+    // 예약 유지 시간이 모두 같으므로 등록 순서가 곧 만료 순서다.
+    private final Deque<Reservation> reservations = new ArrayDeque<>();
+    private final Map<String, Deque<Long>> reservationsByRoom = new HashMap<>();
+
+    RoomCandidatePool(long reservationMillis) {
+        this.reservationMillis = reservationMillis;
+    }
+
+    synchronized void register(String roomId, int capacity, long createdAt, int participantCount) {
+        RoomCandidate previous = candidates.get(roomId);
+        if (previous == null) {
+            replace(new RoomCandidate(roomId, capacity, createdAt, participantCount, 0));
+            return;
+        }
+
+        int joined = participantCount - previous.participantCount();
+        for (int i = 0; i < joined; i++) {
+            consumeReservation(roomId);
+        }
+        replace(previous.withParticipantCount(participantCount, reservedCountOf(roomId)));
+    }
+
+    synchronized void remove(String roomId) {
+        RoomCandidate previous = candidates.remove(roomId);
+        if (previous != null) {
+            available.remove(previous);
+        }
+        reservationsByRoom.remove(roomId);
+    }
+
+    synchronized Optional<String> reserve(long now) {
+        expireReservations(now);
+
+        if (available.isEmpty()) {
+            return Optional.empty();
+        }
+
+        RoomCandidate best = available.first();
+        reservations.addLast(new Reservation(best.roomId(), now + reservationMillis));
+        reservationsByRoom.computeIfAbsent(best.roomId(), roomId -> new ArrayDeque<>())
+                .addLast(now + reservationMillis);
+        replace(best.withReservedCount(reservedCountOf(best.roomId())));
+
+        return Optional.of(best.roomId());
+    }
+
+    // 배정한 자리가 사용자에게 전달되지 않았을 때 가장 최근 예약을 되돌린다.
+    synchronized void release(String roomId) {
+        Deque<Long> roomReservations = reservationsByRoom.get(roomId);
+        if (roomReservations == null || roomReservations.isEmpty()) {
+            return;
+        }
+        roomReservations.pollLast();
+
+        RoomCandidate candidate = candidates.get(roomId);
+        if (candidate != null) {
+            replace(candidate.withReservedCount(roomReservations.size()));
+        }
+    }
+
+    synchronized int size() {
+        return candidates.size();
+    }
+
+    private void expireReservations(long now) {
+        while (!reservations.isEmpty() && reservations.peekFirst().expiresAt() <= now) {
+            String roomId = reservations.pollFirst().roomId();
+
+            Deque<Long> roomReservations = reservationsByRoom.get(roomId);
+            if (roomReservations == null || roomReservations.isEmpty() || roomReservations.peekFirst() > now) {
+                continue;
+            }
+            roomReservations.pollFirst();
+
+            RoomCandidate candidate = candidates.get(roomId);
+            if (candidate != null) {
+                replace(candidate.withReservedCount(roomReservations.size()));
+            }
+        }
+    }
+
+    private void consumeReservation(String roomId) {
+        Deque<Long> roomReservations = reservationsByRoom.get(roomId);
+        if (roomReservations != null) {
+            roomReservations.pollFirst();
+        }
+    }
+
+    private int reservedCountOf(String roomId) {
+        Deque<Long> roomReservations = reservationsByRoom.get(roomId);
+        return roomReservations == null ? 0 : roomReservations.size();
+    }
+
+    private void replace(RoomCandidate candidate) {
+        RoomCandidate previous = candidates.put(candidate.roomId(), candidate);
+        if (previous != null) {
+            available.remove(previous);
+        }
+        if (candidate.hasSeat()) {
+            available.add(candidate);
+        }
+    }
+
+    private record Reservation(String roomId, long expiresAt) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import com.ssafy.ssafyro.domain.room.RoomType;
+
+public record RoomFastEnterDispatchEvent(RoomType type) {
+}
@@ -0,0 +1,59 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import com.ssafy.ssafyro.domain.room.RoomType;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoomMatchmaker {
+
+    private static final long RESERVATION_MILLIS = 10_000L;
+
+    private final Map<RoomType, RoomCandidatePool> pools = new EnumMap<>(RoomType.class);
+
+    public RoomMatchmaker() {
+        for (RoomType type : RoomType.values()) {
+            pools.put(type, new RoomCandidatePool(RESERVATION_MILLIS));
+        }
+    }
+
+    public void register(RoomRedis room, int participantCount) {
+        if (!room.isRecruiting()) {
+            remove(room.getId());
+            return;
+        }
+
+        poolOf(room.getType()).register(room.getId(), room.getCapacity(), createdAtOf(room), participantCount);
+    }
+
+    public void remove(String roomId) {
+        pools.values().forEach(pool -> pool.remove(roomId));
+    }
+
+    public Optional<String> reserve(RoomType type) {
+        return poolOf(type).reserve(System.currentTimeMillis());
+    }
+
+    public void release(String roomId) {
+        pools.values().forEach(pool -> pool.release(roomId));
+    }
+
+    public int countCandidates(RoomType type) {
+        return poolOf(type).size();
+    }
+
+    private RoomCandidatePool poolOf(RoomType type) {
+        return pools.get(type);
+    }
+
+    private static long createdAtOf(RoomRedis room) {
+        return room.getCreatedDate()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+}
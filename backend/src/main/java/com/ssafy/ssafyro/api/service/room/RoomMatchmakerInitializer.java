@@ -0,0 +1,37 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import com.ssafy.ssafyro.domain.room.redis.RoomParticipantRedisRepository;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedisRepository;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RoomMatchmakerInitializer {
+
+    private final RoomMatchmaker roomMatchmaker;
+    private final RoomRedisRepository roomRedisRepository;
+    private final RoomParticipantRedisRepository roomParticipantRedisRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRecruitingRooms() {
+        try {
+            List<RoomRedis> rooms = roomRedisRepository.findRecruitingRooms();
+            Map<String, Integer> participantCounts = roomParticipantRedisRepository.countAllBy(
+                    rooms.stream().map(RoomRedis::getId).toList()
+            );
+
+            rooms.forEach(room -> roomMatchmaker.register(room, participantCounts.getOrDefault(room.getId(), 0)));
+            log.info("Loaded {} recruiting rooms into matchmaker", rooms.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to load recruiting rooms into matchmaker", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import com.ssafy.ssafyro.domain.room.redis.RoomChangedEvent;
+import com.ssafy.ssafyro.domain.room.redis.RoomParticipantRedisRepository;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedisRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class RoomMatchmakerSynchronizer {
+
+    private final RoomMatchmaker roomMatchmaker;
+    private final RoomRedisRepository roomRedisRepository;
+    private final RoomParticipantRedisRepository roomParticipantRedisRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        Optional<RoomRedis> room = roomRedisRepository.findBy(event.roomId());
+        if (room.isEmpty()) {
+            roomMatchmaker.remove(event.roomId());
+            return;
+        }
+
+        roomMatchmaker.register(room.get(), roomParticipantRedisRepository.findAllBy(event.roomId()).size());
+        if (room.get().isRecruiting()) {
+            eventPublisher.publishEvent(new RoomFastEnterDispatchEvent(room.get().getType()));
+        }
+    }
+}
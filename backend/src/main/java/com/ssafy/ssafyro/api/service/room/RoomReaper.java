@@ -0,0 +1,56 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import com.ssafy.ssafyro.domain.room.redis.RoomChangeNotifier;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedisIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RoomReaper {
+
+    private static final Duration GRACE_PERIOD = Duration.ofMinutes(1);
+
+    private final RoomRedisIndex roomRedisIndex;
+    private final RoomMatchmaker roomMatchmaker;
+    private final RoomChangeNotifier roomChangeNotifier;
+
+    private final Counter reapedRooms;
+    private final AtomicLong liveRooms;
+
+    public RoomReaper(RoomRedisIndex roomRedisIndex,
+                      RoomMatchmaker roomMatchmaker,
+                      RoomChangeNotifier roomChangeNotifier,
+                      MeterRegistry meterRegistry) {
+        this.roomRedisIndex = roomRedisIndex;
+        this.roomMatchmaker = roomMatchmaker;
+        this.roomChangeNotifier = roomChangeNotifier;
+        this.reapedRooms = Counter.builder("room.reaped")
+                .description("만료되어 인덱스에서 정리된 방 수")
+                .register(meterRegistry);
+        this.liveRooms = meterRegistry.gauge("room.live", new AtomicLong());
+    }
+
+    @Scheduled(fixedDelayString = "${room.reaper.interval:60000}")
+    public void reap() {
+        try {
+            List<String> expiredRoomIds = roomRedisIndex.removeExpiredRooms(LocalDateTime.now().minus(GRACE_PERIOD));
+            expiredRoomIds.forEach(roomId -> {
+                roomMatchmaker.remove(roomId);
+                roomChangeNotifier.publish(roomId);
+            });
+
+            reapedRooms.increment(expiredRoomIds.size());
+            liveRooms.set(roomRedisIndex.count());
+        } catch (RuntimeException e) {
+            log.warn("Failed to reap expired rooms", e);
+        }
+    }
+}
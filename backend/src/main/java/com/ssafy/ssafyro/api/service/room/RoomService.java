@@ -1,10 +1,5 @@
 package com.ssafy.ssafyro.api.service.room;
 
-import static com.ssafy.ssafyro.config.rabbitmq.RabbitMqElement.PERSONALITY_KEY;
-import static com.ssafy.ssafyro.config.rabbitmq.RabbitMqElement.PERSONALITY_QUEUE;
-import static com.ssafy.ssafyro.config.rabbitmq.RabbitMqElement.PRESENTATION_KEY;
-import static com.ssafy.ssafyro.config.rabbitmq.RabbitMqElement.PRESENTATION_QUEUE;
-import static com.ssafy.ssafyro.domain.room.RoomType.PERSONALITY;
 import static com.ssafy.ssafyro.domain.room.RoomType.valueOf;
 
 import com.ssafy.ssafyro.api.service.room.request.RoomCreateServiceRequest;
@@ -15,23 +10,32 @@ import com.ssafy.ssafyro.api.service.room.response.RoomCreateResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomDetailResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomEnterResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomExitResponse;
+import com.ssafy.ssafyro.api.service.room.response.RoomFastEnterCancelResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomFastEnterResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomListResponse;
+import com.ssafy.ssafyro.api.service.user.UserProfileService;
+import com.ssafy.ssafyro.domain.room.RoomSlice;
 import com.ssafy.ssafyro.domain.room.RoomType;
-import com.ssafy.ssafyro.domain.room.rabbitmq.RoomRabbitMqRepository;
+import com.ssafy.ssafyro.domain.room.redis.RoomJoinResult;
+import com.ssafy.ssafyro.domain.room.redis.RoomParticipantRedisRepository;
+import com.ssafy.ssafyro.domain.room.redis.RoomParticipants;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedisRepository;
 import com.ssafy.ssafyro.domain.user.User;
 import com.ssafy.ssafyro.domain.user.UserRepository;
+import com.ssafy.ssafyro.domain.user.dto.UserProfileDto;
+import com.ssafy.ssafyro.error.room.RoomAlreadyEnteredException;
+import com.ssafy.ssafyro.error.room.RoomFullException;
 import com.ssafy.ssafyro.error.room.RoomNotFoundException;
 import com.ssafy.ssafyro.error.user.UserNotFoundException;
 import jakarta.transaction.Transactional;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -40,36 +44,43 @@ import org.springframework.stereotype.Service;
 public class RoomService {
 
     private final RoomRedisRepository roomRedisRepository;
-    private final RoomRabbitMqRepository roomRabbitMqRepository;
+    private final RoomParticipantRedisRepository roomParticipantRedisRepository;
+    private final RoomMatchmaker roomMatchmaker;
+    private final RoomWaitlist roomWaitlist;
+    private final ApplicationEventPublisher eventPublisher;
     private final UserRepository userRepository;
+    private final UserProfileService userProfileService;
 
     public RoomListResponse getRooms(RoomListServiceRequest request) {
-        List<RoomRedis> rooms = roomRedisRepository.findRoomsBy(request.toFilterCondition());
+        RoomSlice slice = roomRedisRepository.findRoomsBy(request.toFilterCondition());
 
-        return RoomListResponse.of(rooms);
+        return RoomListResponse.of(
+                slice.rooms(),
+                roomParticipantRedisRepository.countAllBy(slice.rooms().stream().map(RoomRedis::getId).toList()),
+                slice.nextCursor()
+        );
     }
 
     public RoomDetailResponse getRoomById(String id) {
+        RoomRedis room = getRoomRedisBy(id);
+        List<Long> userList = roomParticipantRedisRepository.findAllBy(id).userIds();
 
-        List<Long> userList = roomRedisRepository.findBy(id)
-                .map(RoomRedis::getUserList)
-                .orElseThrow(() -> new RoomNotFoundException("Room not found"));
+        Map<Long, UserProfileDto> profiles = userProfileService.getProfiles(userList);
+        if (profiles.size() != Set.copyOf(userList).size()) {
+            throw new UserNotFoundException("User not found");
+        }
 
-        Map<Long, String> userNameMap = userList.stream()
-                .collect(Collectors.toMap(
-                        userId -> userId,
-                        userId -> userRepository.findById(userId)
-                                .orElseThrow(() -> new UserNotFoundException("User not found"))
-                                .getNickname()
-                ));
+        Map<Long, String> userNameMap = profiles.values().stream()
+                .collect(Collectors.toMap(UserProfileDto::getId, UserProfileDto::getNickname));
 
-        return RoomDetailResponse.of(getRoomRedisBy(id), userNameMap);
+        return RoomDetailResponse.of(room, userList, userNameMap);
     }
 
     public RoomCreateResponse createRoom(RoomCreateServiceRequest request) {
         RoomRedis room = request.toEntity();
         roomRedisRepository.save(room);
-        sendToQueue(request.type(), room.getId());
+        roomMatchmaker.register(room, 0);
+        eventPublisher.publishEvent(new RoomFastEnterDispatchEvent(room.getType()));
 
         return RoomCreateResponse.of(room.getId());
     }
@@ -78,8 +89,10 @@ public class RoomService {
         User user = getUser(userId);
 
         RoomRedis room = getRoomRedisBy(request.roomId());
-        room.addParticipant(user.getId());
-        roomRedisRepository.save(room);
+        RoomJoinResult result = roomParticipantRedisRepository.join(room, user.getId());
+        validJoinResult(result);
+        roomMatchmaker.register(room, result.participantCount());
+        roomWaitlist.removeAll(user.getId());
 
         return new RoomEnterResponse();
     }
@@ -88,60 +101,77 @@ public class RoomService {
         User user = getUser(userId);
 
         RoomRedis room = getRoomRedisBy(request.roomId());
-        room.removeParticipant(user.getId());
-        roomRedisRepository.save(room);
+        RoomParticipants remains = roomParticipantRedisRepository.leave(room, user.getId());
+        roomMatchmaker.register(room, remains.size());
+        eventPublisher.publishEvent(new RoomFastEnterDispatchEvent(room.getType()));
 
         return new RoomExitResponse();
     }
 
     public RoomFastEnterResponse fastRoomEnter(String type) {
         RoomType roomType = valueOf(type);
-        String queueName = roomType.equals(PERSONALITY) ? PERSONALITY_QUEUE.getText() : PRESENTATION_QUEUE.getText();
-        String routingKey = roomType.equals(PERSONALITY) ? PERSONALITY_KEY.getText() : PRESENTATION_KEY.getText();
-
-        Set<String> remainRooms = new HashSet<>();
 
         while (true) {
-            String roomId = roomRabbitMqRepository.popQueue(queueName);
-            if (roomId == null) {
+            Optional<String> reserved = roomMatchmaker.reserve(roomType);
+            if (reserved.isEmpty()) {
                 return RoomFastEnterResponse.notExisting();
             }
 
-            if (canEnterRoom(roomId, remainRooms)) {
-                resendRemainRooms(remainRooms, routingKey);
+            String roomId = reserved.get();
+            if (canEnterRoom(roomId)) {
                 return new RoomFastEnterResponse(true, roomId);
             }
         }
     }
 
+    public RoomFastEnterResponse waitFastEnter(Long userId, String type) {
+        RoomFastEnterResponse response = fastRoomEnter(type);
+        if (response.isExisting()) {
+            return response;
+        }
+
+        RoomType roomType = valueOf(type);
+        roomWaitlist.add(roomType, getUser(userId).getId());
+        eventPublisher.publishEvent(new RoomFastEnterDispatchEvent(roomType));
+
+        return response;
+    }
+
+    public RoomFastEnterCancelResponse cancelFastEnter(Long userId, String type) {
+        roomWaitlist.remove(valueOf(type), userId);
+
+        return new RoomFastEnterCancelResponse();
+    }
+
     private RoomRedis getRoomRedisBy(String roomId) {
         return roomRedisRepository.findBy(roomId)
                 .orElseThrow(() -> new RoomNotFoundException("Room not found"));
     }
 
-    private void sendToQueue(String type, String roomId) {
-        if (PERSONALITY.equals(RoomType.valueOf(type))) {
-            roomRabbitMqRepository.pushQueue(PERSONALITY_KEY.getText(), roomId);
-            return;
+    private boolean canEnterRoom(String roomId) {
+        Optional<RoomRedis> room = roomRedisRepository.findBy(roomId);
+        if (room.isEmpty()) {
+            roomMatchmaker.remove(roomId);
+            return false;
         }
-        roomRabbitMqRepository.pushQueue(PRESENTATION_KEY.getText(), roomId);
-    }
 
-    private boolean canEnterRoom(String roomId, Set<String> remainRooms) {
-        return roomRedisRepository.findBy(roomId)
-                .map(roomRedis -> {
-                    if (!roomRedis.isRecruiting()) {
-                        return false;
-                    }
-                    remainRooms.add(roomId);
-
-                    return roomRedis.isEnoughCapacity();
-                })
-                .orElse(false);
+        int participantCount = roomParticipantRedisRepository.findAllBy(roomId).size();
+        if (!room.get().isRecruiting() || participantCount >= room.get().getCapacity()) {
+            roomMatchmaker.register(room.get(), participantCount);
+            return false;
+        }
+
+        return true;
     }
 
-    private void resendRemainRooms(Set<String> remainRooms, String routingKey) {
-        remainRooms.forEach(remainId -> roomRabbitMqRepository.pushQueue(routingKey, remainId));
+    private static void validJoinResult(RoomJoinResult result) {
+        if (result.isDuplicated()) {
+            throw new RoomAlreadyEnteredException("Room already entered");
+        }
+
+        if (result.isFull()) {
+            throw new RoomFullException("Room is full");
+        }
     }
 
     private User getUser(Long userId) {
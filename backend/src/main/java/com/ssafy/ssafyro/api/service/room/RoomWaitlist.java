@@ -0,0 +1,108 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import com.ssafy.ssafyro.domain.room.RoomType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 빠른 입장 대기자를 방 종류별로 대기 순서대로 보관한다.
+ * <p>
+ * 대기 목록은 노드별 메모리에 있다. 배정 결과는 사용자의 WebSocket 세션이 연결된 노드의 simple broker 로만
+ * 전달되므로, 사용자는 대기를 요청한 노드에서만 배정받을 수 있다. 다른 노드에서 생긴 빈자리는 room-changed 채널로
+ * 이 노드의 {@link RoomMatchmaker} 에 반영되고, 그때와 주기적인 sweep 에서 이 노드의 대기자에게 배정한다.
+ * 노드가 재시작되면 대기 목록도 사라지지만 WebSocket 연결도 함께 끊기므로 클라이언트가 다시 대기를 요청해야 한다.
+ */
+@Component
+public class RoomWaitlist {
+
+    private static final long WAITING_MILLIS = 60_000L;
+
+    private final long waitingMillis;
+    private final Map<RoomType, LinkedHashMap<Long, Long>> waitingUsers = new EnumMap<>(RoomType.class);
+
+    // 대기 시간이 지나 목록에서 빠졌지만 아직 알리지 않은 사용자
+    private final List<Long> expiredUsers = new ArrayList<>();
+
+    public RoomWaitlist() {
+        this(WAITING_MILLIS);
+    }
+
+    RoomWaitlist(long waitingMillis) {
+        this.waitingMillis = waitingMillis;
+        for (RoomType type : RoomType.values()) {
+            waitingUsers.put(type, new LinkedHashMap<>());
+        }
+    }
+
+    public synchronized void add(RoomType type, Long userId) {
+        LinkedHashMap<Long, Long> users = waitingUsers.get(type);
+        users.remove(userId);
+        users.put(userId, System.currentTimeMillis() + waitingMillis);
+    }
+
+    public synchronized void remove(RoomType type, Long userId) {
+        waitingUsers.get(type).remove(userId);
+    }
+
+    public synchronized void removeAll(Long userId) {
+        waitingUsers.values().forEach(users -> users.remove(userId));
+    }
+
+    public synchronized boolean hasWaiting(RoomType type) {
+        removeExpired(type, System.currentTimeMillis());
+        return !waitingUsers.get(type).isEmpty();
+    }
+
+    public synchronized Optional<Long> poll(RoomType type) {
+        return poll(type, userId -> true);
+    }
+
+    /**
+     * 조건을 만족하는 사용자 중 가장 먼저 대기한 사용자를 꺼낸다. 조건을 만족하지 않는 사용자는 순서를 유지한다.
+     */
+    public synchronized Optional<Long> poll(RoomType type, Predicate<Long> condition) {
+        removeExpired(type, System.currentTimeMillis());
+
+        Iterator<Long> userIds = waitingUsers.get(type).keySet().iterator();
+        while (userIds.hasNext()) {
+            Long userId = userIds.next();
+            if (condition.test(userId)) {
+                userIds.remove();
+                return Optional.of(userId);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 대기 시간이 지나 목록에서 빠진 사용자를 반환하고 비운다. 반환된 사용자에게는 배정 실패를 알려야 한다.
+     */
+    public synchronized List<Long> drainExpired() {
+        long now = System.currentTimeMillis();
+        waitingUsers.keySet().forEach(type -> removeExpired(type, now));
+
+        List<Long> expired = List.copyOf(expiredUsers);
+        expiredUsers.clear();
+        return expired;
+    }
+
+    private void removeExpired(RoomType type, long now) {
+        Iterator<Entry<Long, Long>> users = waitingUsers.get(type).entrySet().iterator();
+        while (users.hasNext()) {
+            Entry<Long, Long> user = users.next();
+            if (user.getValue() > now) {
+                return;
+            }
+            users.remove();
+            expiredUsers.add(user.getKey());
+        }
+    }
+}
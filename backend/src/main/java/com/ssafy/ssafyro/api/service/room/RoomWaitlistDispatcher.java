@@ -0,0 +1,101 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import static com.ssafy.ssafyro.api.ApiUtils.success;
+
+import com.ssafy.ssafyro.api.service.room.response.RoomFastEnterResponse;
+import com.ssafy.ssafyro.domain.room.RoomType;
+import jakarta.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이 노드의 {@link RoomWaitlist} 대기자에게 빈자리를 배정하고 결과를 STOMP 로 알린다.
+ * 다른 노드의 방 변경은 {@link RoomMatchmakerSynchronizer} 가 받은 room-changed 이벤트로 배정을 시작한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RoomWaitlistDispatcher {
+
+    private final RoomService roomService;
+    private final RoomWaitlist roomWaitlist;
+    private final RoomMatchmaker roomMatchmaker;
+    private final RoomWaitlistSubscriptions roomWaitlistSubscriptions;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 방 배정은 한 스레드에서 순서대로 처리해 같은 자리를 두 사용자에게 알리지 않는다.
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDispatch(RoomFastEnterDispatchEvent event) {
+        executor.execute(() -> dispatch(event.type()));
+    }
+
+    // 대기 시간이 지난 사용자에게 배정 실패를 알리고, 입장하지 않아 예약이 풀린 자리를 다음 대기자에게 배정한다.
+    @Scheduled(fixedDelayString = "${room.waitlist.sweep-interval:5000}")
+    public void sweep() {
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        executor.execute(() -> {
+            for (RoomType type : RoomType.values()) {
+                dispatch(type);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void dispatch(RoomType type) {
+        try {
+            notifyExpired();
+
+            while (roomWaitlist.hasWaiting(type)) {
+                RoomFastEnterResponse response = roomService.fastRoomEnter(type.name());
+                if (!response.isExisting()) {
+                    return;
+                }
+
+                // 결과 토픽을 아직 구독하지 않은 사용자는 대기 시간이 끝날 때까지 순서를 유지한 채 건너뛴다.
+                Optional<Long> userId = roomWaitlist.poll(type, roomWaitlistSubscriptions::isSubscribed);
+                if (userId.isEmpty()) {
+                    roomMatchmaker.release(response.roomId());
+                    return;
+                }
+
+                if (!deliver(userId.get(), response)) {
+                    roomMatchmaker.release(response.roomId());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch fast enter waitlist of {}", type, e);
+        }
+    }
+
+    private void notifyExpired() {
+        roomWaitlist.drainExpired()
+                .forEach(userId -> deliver(userId, RoomFastEnterResponse.notExisting()));
+    }
+
+    private boolean deliver(Long userId, RoomFastEnterResponse response) {
+        try {
+            messagingTemplate.convertAndSend(RoomWaitlistSubscriptions.topicOf(userId), success(response));
+            return true;
+        } catch (MessagingException e) {
+            log.warn("Failed to send fast enter result to user {}", userId, e);
+            return false;
+        }
+    }
+}
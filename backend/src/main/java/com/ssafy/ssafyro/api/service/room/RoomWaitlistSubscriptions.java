@@ -0,0 +1,81 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 빠른 입장 배정 결과 토픽을 구독 중인 사용자를 기록한다.
+ * 구독하지 않은 사용자에게는 자리를 배정해도 전달되지 않으므로 배정 전에 확인한다.
+ */
+@Component
+public class RoomWaitlistSubscriptions {
+
+    private static final String FAST_ENTER_TOPIC = "/topic/fast-enter/";
+
+    // sessionId -> (subscriptionId -> userId)
+    private final Map<String, Map<String, Long>> subscriptions = new HashMap<>();
+    private final Map<Long, Integer> subscriberCounts = new HashMap<>();
+
+    public static String topicOf(Long userId) {
+        return FAST_ENTER_TOPIC + userId;
+    }
+
+    public synchronized boolean isSubscribed(Long userId) {
+        return subscriberCounts.containsKey(userId);
+    }
+
+    @EventListener
+    public synchronized void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(FAST_ENTER_TOPIC)) {
+            return;
+        }
+
+        Long userId;
+        try {
+            userId = Long.valueOf(destination.substring(FAST_ENTER_TOPIC.length()));
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        Long previous = subscriptions.computeIfAbsent(accessor.getSessionId(), sessionId -> new HashMap<>())
+                .put(accessor.getSubscriptionId(), userId);
+        if (previous != null) {
+            decrement(previous);
+        }
+        subscriberCounts.merge(userId, 1, Integer::sum);
+    }
+
+    @EventListener
+    public synchronized void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> sessionSubscriptions = subscriptions.get(accessor.getSessionId());
+        if (sessionSubscriptions == null) {
+            return;
+        }
+
+        Long userId = sessionSubscriptions.remove(accessor.getSubscriptionId());
+        if (userId != null) {
+            decrement(userId);
+        }
+    }
+
+    @EventListener
+    public synchronized void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> sessionSubscriptions = subscriptions.remove(event.getSessionId());
+        if (sessionSubscriptions != null) {
+            sessionSubscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    private void decrement(Long userId) {
+        subscriberCounts.computeIfPresent(userId, (key, count) -> count > 1 ? count - 1 : null);
+    }
+}
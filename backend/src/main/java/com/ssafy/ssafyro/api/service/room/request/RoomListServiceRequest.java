@@ -1,6 +1,7 @@
 package com.ssafy.ssafyro.api.service.room.request;
 
 
+import com.ssafy.ssafyro.domain.room.RoomCursor;
 import com.ssafy.ssafyro.domain.room.RoomFilterCondition;
 
 public record RoomListServiceRequest(String title,
@@ -8,7 +9,8 @@ public record RoomListServiceRequest(String title,
                                      Integer capacity,
                                      String status,
                                      int page,
-                                     int size) {
+                                     int size,
+                                     String cursor) {
 
     public RoomFilterCondition toFilterCondition() {
         return RoomFilterCondition.builder()
@@ -18,6 +20,7 @@ public record RoomListServiceRequest(String title,
                 .status(status)
                 .page(page)
                 .size(size)
+                .cursor(RoomCursor.decode(cursor))
                 .build();
     }
 }
@@ -14,14 +14,14 @@ public record RoomDetailResponse(String title,
                                  List<Long> userList,
                                  Map<Long, String> userNameMap
 ) {
-    public static RoomDetailResponse of(RoomRedis room, Map<Long, String> userNameMap) {
+    public static RoomDetailResponse of(RoomRedis room, List<Long> userList, Map<Long, String> userNameMap) {
         return new RoomDetailResponse(
                 room.getTitle(),
                 room.getDescription(),
                 room.getType(),
                 room.getStatus(),
                 room.getCapacity(),
-                room.getUserList(),
+                userList,
                 userNameMap
         );
     }
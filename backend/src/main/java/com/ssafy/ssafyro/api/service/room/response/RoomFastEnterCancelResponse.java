@@ -0,0 +1,4 @@
+package com.ssafy.ssafyro.api.service.room.response;
+
+public record RoomFastEnterCancelResponse() {
+}
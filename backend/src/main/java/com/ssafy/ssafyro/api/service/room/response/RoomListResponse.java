@@ -1,18 +1,23 @@
 package com.ssafy.ssafyro.api.service.room.response;
 
+import com.ssafy.ssafyro.domain.room.RoomCursor;
 import com.ssafy.ssafyro.domain.room.RoomType;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
 import com.ssafy.ssafyro.domain.room.RoomStatus;
 import java.util.List;
+import java.util.Map;
 
-public record RoomListResponse(List<RoomInfo> rooms) {
+public record RoomListResponse(List<RoomInfo> rooms, String nextCursor) {
 
-    public static RoomListResponse of(List<RoomRedis> roomRedisList) {
+    public static RoomListResponse of(List<RoomRedis> roomRedisList,
+                                      Map<String, Integer> participantCounts,
+                                      RoomCursor nextCursor) {
 
         return new RoomListResponse(
                 roomRedisList.stream()
-                        .map(RoomInfo::new)
-                        .toList()
+                        .map(room -> new RoomInfo(room, participantCounts.getOrDefault(room.getId(), 0)))
+                        .toList(),
+                nextCursor == null ? null : nextCursor.encode()
         );
     }
 
@@ -24,7 +29,7 @@ public record RoomListResponse(List<RoomInfo> rooms) {
                             int capacity,
                             int participantCount) {
 
-        public RoomInfo(RoomRedis room) {
+        public RoomInfo(RoomRedis room, int participantCount) {
             this(
                     room.getId(),
                     room.getTitle(),
@@ -32,7 +37,7 @@ public record RoomListResponse(List<RoomInfo> rooms) {
                     room.getType(),
                     room.getStatus(),
                     room.getCapacity(),
-                    room.getUserList().size()
+                    participantCount
             );
         }
     }
@@ -0,0 +1,45 @@
+package com.ssafy.ssafyro.api.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.ssafyro.domain.user.UserRepository;
+import com.ssafy.ssafyro.domain.user.dto.UserProfileDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+@Service
+public class UserProfileService {
+
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+    private static final long CACHE_MAXIMUM_SIZE = 10_000L;
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserProfileDto> cache;
+
+    public UserProfileService(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(CACHE_TTL)
+                .maximumSize(CACHE_MAXIMUM_SIZE)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.profile-cache");
+    }
+
+    public Map<Long, UserProfileDto> getProfiles(Collection<Long> userIds) {
+        return cache.getAll(userIds, missingIds -> userRepository.findProfilesBy(Set.copyOf(missingIds)).stream()
+                .collect(Collectors.toMap(UserProfileDto::getId, Function.identity())));
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,171 @@
+package com.ssafy.ssafyro.config;
+
+import com.ssafy.ssafyro.api.service.ai.AICallGuard;
+import com.ssafy.ssafyro.api.service.ai.AIFeedbackCache;
+import com.ssafy.ssafyro.api.service.ai.AIResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.CachingAIResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.CannedAIResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.ChatGptResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.CoalescingAIResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.FallbackAIResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.ResilientAIResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.SingleFlight;
+import com.ssafy.ssafyro.api.service.interview.response.ArticleResponse;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedThreadPoolBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedTimeLimiterMetrics;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * AI 생성기 데코레이터 체인을 구성한다.
+ * <p>
+ * Fallback → Coalescing → Caching → Resilient → ChatGPT 순서로 감싸서, 캐시 적중은 서킷이 열려도 그대로 반환하고
+ * 대체 응답은 캐시에 남지 않게 한다.
+ */
+@Configuration
+public class AIResponseGeneratorConfig {
+
+    // 빈으로 등록하면 @Scheduled 작업이 이 스케줄러를 쓰게 되므로 설정 안에서만 관리한다.
+    private final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ai-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${ai.resilience.feedback.timeout:30s}")
+    private Duration feedbackTimeout;
+
+    @Value("${ai.resilience.feedback-batch.timeout:90s}")
+    private Duration feedbackBatchTimeout;
+
+    @Value("${ai.resilience.article.timeout:60s}")
+    private Duration articleTimeout;
+
+    @Value("${ai.resilience.essay.timeout:60s}")
+    private Duration essayTimeout;
+
+    @Value("${ai.resilience.bulkhead.max-concurrent-calls:8}")
+    private int maxConcurrentCalls;
+
+    @Value("${ai.resilience.bulkhead.queue-capacity:16}")
+    private int queueCapacity;
+
+    @Value("${ai.resilience.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${ai.resilience.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${ai.resilience.circuit-breaker.wait-duration-in-open-state:30s}")
+    private Duration waitDurationInOpenState;
+
+    @Value("${ai.resilience.fallback-feedback:}")
+    private String fallbackFeedback;
+
+    @Primary
+    @Bean
+    public AIResponseGenerator aiResponseGenerator(ChatGptResponseGenerator chatGptResponseGenerator,
+                                                   AIFeedbackCache feedbackCache,
+                                                   MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(Math.min(slidingWindowSize, 10))
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+        ThreadPoolBulkheadRegistry bulkheadRegistry = ThreadPoolBulkheadRegistry.of(ThreadPoolBulkheadConfig.custom()
+                .coreThreadPoolSize(maxConcurrentCalls)
+                .maxThreadPoolSize(maxConcurrentCalls)
+                .queueCapacity(queueCapacity)
+                .build());
+        // 스트리밍 호출은 스레드 대신 동시 스트림 수로 제한하고, 자리가 없으면 기다리지 않고 거절한다.
+        BulkheadRegistry streamBulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedThreadPoolBulkheadMetrics.ofThreadPoolBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(streamBulkheadRegistry).bindTo(meterRegistry);
+        TaggedTimeLimiterMetrics.ofTimeLimiterRegistry(timeLimiterRegistry).bindTo(meterRegistry);
+
+        AIResponseGenerator resilient = new ResilientAIResponseGenerator(
+                chatGptResponseGenerator,
+                guard("ai-feedback", feedbackTimeout, circuitBreakerRegistry, bulkheadRegistry,
+                        streamBulkheadRegistry, timeLimiterRegistry, timeoutScheduler),
+                guard("ai-feedback-batch", feedbackBatchTimeout, circuitBreakerRegistry, bulkheadRegistry,
+                        streamBulkheadRegistry, timeLimiterRegistry, timeoutScheduler),
+                guard("ai-article", articleTimeout, circuitBreakerRegistry, bulkheadRegistry,
+                        streamBulkheadRegistry, timeLimiterRegistry, timeoutScheduler),
+                guard("ai-essay", essayTimeout, circuitBreakerRegistry, bulkheadRegistry,
+                        streamBulkheadRegistry, timeLimiterRegistry, timeoutScheduler)
+        );
+
+        AIResponseGenerator cached = new CachingAIResponseGenerator(
+                resilient,
+                feedbackCache,
+                ChatGptResponseGenerator.FEEDBACK_PROMPT_VERSION,
+                meterRegistry
+        );
+
+        AIResponseGenerator coalesced = new CoalescingAIResponseGenerator(cached, meterRegistry);
+
+        if (fallbackFeedback.isBlank()) {
+            return coalesced;
+        }
+        return new FallbackAIResponseGenerator(
+                coalesced,
+                new CannedAIResponseGenerator(fallbackFeedback),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public SingleFlight<String, ArticleResponse> articleSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("article", meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timeoutScheduler.shutdownNow();
+    }
+
+    private static AICallGuard guard(String name,
+                                     Duration timeout,
+                                     CircuitBreakerRegistry circuitBreakerRegistry,
+                                     ThreadPoolBulkheadRegistry bulkheadRegistry,
+                                     BulkheadRegistry streamBulkheadRegistry,
+                                     TimeLimiterRegistry timeLimiterRegistry,
+                                     ScheduledExecutorService scheduler) {
+        return new AICallGuard(
+                circuitBreakerRegistry.circuitBreaker(name),
+                bulkheadRegistry.bulkhead(name),
+                streamBulkheadRegistry.bulkhead(name + "-stream"),
+                timeLimiterRegistry.timeLimiter(name, TimeLimiterConfig.custom()
+                        .timeoutDuration(timeout)
+                        .cancelRunningFuture(true)
+                        .build()),
+                scheduler
+        );
+    }
+}
@@ -1,15 +1,23 @@
 package com.ssafy.ssafyro.config;
 
 import com.ssafy.ssafyro.domain.interview.InterviewRedis;
+import com.ssafy.ssafyro.domain.interview.InterviewRedisSerializer;
+import com.ssafy.ssafyro.domain.room.redis.RoomChangeNotifier;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedisSerializer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -25,22 +33,49 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisTemplate<String, InterviewRedis> interviewRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
-        return createRedisTemplate(redisConnectionFactory);
+    public RedisTemplate<String, InterviewRedis> interviewRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory,
+            @Value("${redis.codec.interview:binary}") String codec) {
+        return createRedisTemplate(redisConnectionFactory, valueSerializerOf(codec, new InterviewRedisSerializer()));
     }
 
     @Bean
-    public RedisTemplate<String, RoomRedis> roomRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
-        return createRedisTemplate(redisConnectionFactory);
+    public RedisTemplate<String, RoomRedis> roomRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory,
+            @Value("${redis.codec.room:binary}") String codec) {
+        return createRedisTemplate(redisConnectionFactory, valueSerializerOf(codec, new RoomRedisSerializer()));
     }
 
-    private <T> RedisTemplate<String, T> createRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       RoomChangeNotifier roomChangeNotifier) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(roomChangeNotifier, new ChannelTopic(RoomChangeNotifier.CHANNEL));
+        return container;
+    }
+
+    private <T> RedisTemplate<String, T> createRedisTemplate(RedisConnectionFactory redisConnectionFactory,
+                                                             RedisSerializer<?> valueSerializer) {
         RedisTemplate<String, T> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(valueSerializer);
         template.setEnableTransactionSupport(true);
         return template;
     }
 
+    // 바이너리 직렬화는 기존 JSON 값도 읽을 수 있어 json 으로 되돌리지 않는 한 그대로 전환된다.
+    private static RedisSerializer<?> valueSerializerOf(String codec, RedisSerializer<?> binarySerializer) {
+        if ("json".equalsIgnoreCase(codec)) {
+            return new GenericJackson2JsonRedisSerializer();
+        }
+        return binarySerializer;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.ssafy.ssafyro.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 레포트 생성에 쓰는 스레드 풀. 큐 크기를 제한하고, 큐가 가득 차면 작업을 거절해 호출한 쪽에서 레포트를 실패로 처리한다.
+ * 애플리케이션 종료 시 Spring 이 풀을 닫는다.
+ */
+@Configuration
+public class ReportExecutorConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor reportJobExecutor(
+            @Value("${report.generator.job-concurrency:2}") int concurrency,
+            @Value("${report.generator.job-queue-capacity:100}") int queueCapacity) {
+        return executor("report-job-", concurrency, queueCapacity);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reportFeedbackExecutor(
+            @Value("${report.generator.feedback-concurrency:8}") int concurrency,
+            @Value("${report.generator.feedback-queue-capacity:200}") int queueCapacity) {
+        return executor("report-feedback-", concurrency, queueCapacity);
+    }
+
+    // 태그 추출은 형태소 분석기를 빌려 쓰므로 분석기보다 많은 스레드는 풀 자리만 차지한 채 기다린다.
+    @Bean
+    public ThreadPoolTaskExecutor reportTagExecutor(
+            @Value("${report.generator.tag-concurrency:${komoran.pool.size:2}}") int concurrency,
+            @Value("${report.generator.tag-queue-capacity:500}") int queueCapacity) {
+        return executor("report-tag-", concurrency, queueCapacity);
+    }
+
+    private static ThreadPoolTaskExecutor executor(String threadNamePrefix, int concurrency, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,150 @@
+package com.ssafy.ssafyro.config.redis;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * prefix 아래에 항목을 해시로 저장하고, TTL 과 최대 크기로 크기를 제한하는 Redis 캐시.
+ * <p>
+ * 항목 키는 prefix 와 키 재료의 SHA-256 해시로 만들고, {@code prefix + "index"} 정렬 집합에 항목별 시각을 기록한다.
+ * 인덱스가 최대 크기를 넘으면 시각이 가장 오래된 항목부터 지운다. refreshOnRead 이면 조회할 때도 시각을 갱신해
+ * 가장 오래 쓰이지 않은 항목부터, 아니면 가장 먼저 저장한 항목부터 지운다.
+ */
+public class BoundedRedisCache {
+
+    private static final int SCAN_COUNT = 500;
+
+    // 항목의 필드들을 읽고, 첫 필드가 있으면 인덱스의 마지막 조회 시각을 갱신한다.
+    private static final RedisScript<List> GET_SCRIPT = new DefaultRedisScript<>("""
+            local values = redis.call('HMGET', KEYS[1], unpack(ARGV, 2))
+            if values[1] then
+                redis.call('ZADD', KEYS[2], 'XX', ARGV[1], KEYS[1])
+            end
+            return values
+            """, List.class);
+
+    // 항목을 새로 저장하고 만료되었거나 최대 크기를 넘는 오래된 항목을 인덱스에서 빼서 반환한다.
+    // 스크립트는 KEYS 로 받은 키만 다루고, 반환된 항목은 호출한 쪽에서 지운다.
+    private static final RedisScript<List> PUT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 4))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. (tonumber(ARGV[2]) - tonumber(ARGV[1])))
+            redis.call('ZADD', KEYS[2], ARGV[2], KEYS[1])
+            local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[3])
+            if overflow > 0 then
+                local evicted = redis.call('ZRANGE', KEYS[2], 0, overflow - 1)
+                redis.call('ZREMRANGEBYRANK', KEYS[2], 0, overflow - 1)
+                return evicted
+            end
+            return {}
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String prefix;
+    private final String indexKey;
+    private final Duration ttl;
+    private final long maximumSize;
+    private final boolean refreshOnRead;
+
+    public BoundedRedisCache(StringRedisTemplate stringRedisTemplate,
+                             String prefix,
+                             Duration ttl,
+                             long maximumSize,
+                             boolean refreshOnRead) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.prefix = prefix;
+        this.indexKey = prefix + "index";
+        this.ttl = ttl;
+        this.maximumSize = maximumSize;
+        this.refreshOnRead = refreshOnRead;
+    }
+
+    public String keyOf(String... parts) {
+        return prefix + hash(String.join("\n", parts));
+    }
+
+    /**
+     * fields 순서대로 값을 반환한다. 첫 필드가 없으면 항목이 없는 것으로 본다.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<String>> get(String key, List<String> fields) {
+        List<String> values;
+        if (refreshOnRead) {
+            List<String> args = new ArrayList<>(fields.size() + 1);
+            args.add(String.valueOf(System.currentTimeMillis()));
+            args.addAll(fields);
+            values = stringRedisTemplate.execute(GET_SCRIPT, List.of(key, indexKey), args.toArray());
+        } else {
+            values = stringRedisTemplate.<String, String>opsForHash().multiGet(key, fields);
+        }
+
+        if (values == null || values.isEmpty() || values.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void put(String key, Map<String, String> values) {
+        List<String> args = new ArrayList<>(3 + values.size() * 2);
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(String.valueOf(maximumSize));
+        values.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        List<String> evicted = stringRedisTemplate.execute(PUT_SCRIPT, List.of(key, indexKey), args.toArray());
+
+        if (evicted != null && !evicted.isEmpty()) {
+            stringRedisTemplate.delete(evicted);
+        }
+    }
+
+    public long size() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(indexKey);
+        return size == null ? 0 : size;
+    }
+
+    public void clear() {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(
+                ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build())) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_COUNT) {
+                    stringRedisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+        }
+
+        if (!keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
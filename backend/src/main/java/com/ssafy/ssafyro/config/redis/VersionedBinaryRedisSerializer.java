@@ -0,0 +1,145 @@
+package com.ssafy.ssafyro.config.redis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * [magic][schema][version][body] 형태의 바이너리 값 직렬화.
+ * 스키마가 바뀌면 version 을 올리고 readBody 에서 version 별로 분기해 이전 버전도 읽을 수 있게 유지한다.
+ * 읽을 수 없는 version 은 {@link IOException} 으로 거부한다.
+ * '{' 로 시작하는 값은 이전에 JSON 으로 저장된 값으로 보고 JSON 으로 읽는다.
+ */
+public abstract class VersionedBinaryRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte MAGIC = (byte) 0xB1;
+    private static final byte JSON_START = '{';
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    private final Class<T> type;
+    private final byte schema;
+    private final byte version;
+
+    protected VersionedBinaryRedisSerializer(Class<T> type, int schema, int version) {
+        this.type = type;
+        this.schema = (byte) schema;
+        this.version = (byte) version;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            out.writeByte(schema);
+            out.writeByte(version);
+            writeBody(out, value);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] == JSON_START) {
+            return jsonSerializer.deserialize(bytes, type);
+        }
+
+        if (bytes.length < 3 || bytes[0] != MAGIC || bytes[1] != schema) {
+            throw new SerializationException("Unknown " + type.getSimpleName() + " value format");
+        }
+
+        try {
+            return readBody(new DataInputStream(new ByteArrayInputStream(bytes, 3, bytes.length - 3)), bytes[2]);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type;
+    }
+
+    protected abstract void writeBody(DataOutputStream out, T value) throws IOException;
+
+    protected abstract T readBody(DataInputStream in, int version) throws IOException;
+
+    protected static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    protected static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number");
+    }
+
+    protected static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+    }
+
+    protected static int readVarInt(DataInputStream in) throws IOException {
+        int value = (int) readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // 길이 + 1 을 기록하고 null 은 0 으로 기록한다.
+    protected static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    protected static String readString(DataInputStream in) throws IOException {
+        int length = (int) readVarLong(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    protected static <E extends Enum<E>> void writeEnum(DataOutputStream out, E value) throws IOException {
+        writeString(out, value == null ? null : value.name());
+    }
+
+    protected static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> enumType) throws IOException {
+        String name = readString(in);
+        return name == null ? null : Enum.valueOf(enumType, name);
+    }
+}
@@ -37,6 +37,12 @@ public class Essay extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Column(columnDefinition = "TEXT")
+    private String reviewedContent;
+
+    @Column(columnDefinition = "TEXT")
+    private String review;
+
     @Builder
     private Essay(User user, EssayQuestion question, String content) {
         this.user = user;
@@ -47,4 +53,13 @@ public class Essay extends BaseEntity {
     public void update(String content) {
         this.content = content;
     }
+
+    public void recordReview(String reviewedContent, String review) {
+        this.reviewedContent = reviewedContent;
+        this.review = review;
+    }
+
+    public boolean hasReview() {
+        return reviewedContent != null && review != null;
+    }
 }
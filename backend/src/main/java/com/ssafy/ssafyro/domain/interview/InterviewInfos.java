@@ -1,11 +1,15 @@
 package com.ssafy.ssafyro.domain.interview;
 
 import com.ssafy.ssafyro.api.service.ai.AIResponseGenerator;
+import com.ssafy.ssafyro.api.service.ai.AiQuestionAnswer;
 import com.ssafy.ssafyro.api.service.report.KoMorAnGenerator;
 import com.ssafy.ssafyro.domain.interviewresult.InterviewResult;
 import com.ssafy.ssafyro.domain.interviewresult.InterviewResultDocument;
 import com.ssafy.ssafyro.domain.report.Report;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
 
 public record InterviewInfos(List<InterviewRedis> interviews) {
 
@@ -15,16 +19,48 @@ public record InterviewInfos(List<InterviewRedis> interviews) {
                 .sum();
     }
 
-    public List<InterviewResult> generateInterviewResults(AIResponseGenerator aiResponseGenerator,
-                                                          Report report) {
-        return this.interviews.stream()
-                .map(interview -> InterviewResult.create(report, interview, aiResponseGenerator))
+    public boolean isEmpty() {
+        return this.interviews.isEmpty();
+    }
+
+    /**
+     * 답변을 batchSize 개씩 묶어 묶음마다 한 번의 요청으로 피드백을 생성한다. 결과는 답변 순서를 유지한다.
+     */
+    public List<CompletableFuture<List<String>>> generateFeedbacks(AIResponseGenerator aiResponseGenerator,
+                                                                   int batchSize,
+                                                                   Executor executor) {
+        return IntStream.iterate(0, from -> from < this.interviews.size(), from -> from + batchSize)
+                .mapToObj(from -> toQuestionAnswers(from, Math.min(from + batchSize, this.interviews.size())))
+                .map(batch -> CompletableFuture.supplyAsync(
+                        () -> aiResponseGenerator.generateFeedbacksBy(batch),
+                        executor
+                ))
                 .toList();
     }
 
-    public List<InterviewResultDocument> generateInterviewResultDocuments(KoMorAnGenerator koMorAnGenerator) {
+    public List<InterviewResult> generateInterviewResults(List<String> feedbacks, Report report) {
+        return IntStream.range(0, this.interviews.size())
+                .mapToObj(index -> InterviewResult.create(report, this.interviews.get(index), feedbacks.get(index)))
+                .toList();
+    }
+
+    /**
+     * 답변마다 태그 추출을 따로 실행해 검색용 문서를 만든다. 결과는 답변 순서를 유지한다.
+     */
+    public List<CompletableFuture<InterviewResultDocument>> generateInterviewResultDocuments(
+            KoMorAnGenerator koMorAnGenerator,
+            Executor executor) {
         return this.interviews.stream()
-                .map(interviewRedis -> InterviewResultDocument.create(interviewRedis, koMorAnGenerator))
+                .map(interviewRedis -> CompletableFuture.supplyAsync(
+                        () -> InterviewResultDocument.create(interviewRedis, koMorAnGenerator),
+                        executor
+                ))
+                .toList();
+    }
+
+    private List<AiQuestionAnswer> toQuestionAnswers(int from, int to) {
+        return this.interviews.subList(from, to).stream()
+                .map(interview -> new AiQuestionAnswer(interview.getQuestion(), interview.getAnswer()))
                 .toList();
     }
 }
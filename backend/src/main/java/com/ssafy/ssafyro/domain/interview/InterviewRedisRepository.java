@@ -1,60 +1,202 @@
 package com.ssafy.ssafyro.domain.interview;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.ssafy.ssafyro.domain.room.RoomStatus;
+import com.ssafy.ssafyro.error.interview.InterviewAnswerNotFoundException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 면접 세션(방 + 유저) 단위로 답변을 하나의 해시에 저장한다.
+ * <p>
+ * {@code count} 필드에 답변 수를, {@code answer:{i}} 에 직렬화된 답변을, {@code score:{i}} 에 평가 점수를 둔다.
+ * 쓰기마다 TTL 을 다시 설정하므로 진행 중인 면접의 앞선 답변이 먼저 만료되지 않는다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class InterviewRedisRepository {
 
     private static final String INTERVIEW_PREFIX = "interview:";
+    private static final String COUNT_FIELD = "count";
+    private static final String ANSWER_FIELD_PREFIX = "answer:";
+    private static final String SCORE_FIELD_PREFIX = "score:";
+
+    private static final int SCAN_COUNT = 500;
+
+    private static final long SESSION_TTL_MILLIS = RoomStatus.ING.getTtl().toMillis();
+
+    private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    // 답변 순서를 증가시키고 해당 순서의 필드에 답변을 저장한다.
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local index = redis.call('HINCRBY', KEYS[1], 'count', 1) - 1
+            redis.call('HSET', KEYS[1], 'answer:' .. index, ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return index
+            """, Long.class);
+
+    // 마지막 답변의 점수 필드에 점수를 더한다. 답변이 없으면 -1 을 반환한다.
+    private static final RedisScript<Long> SCORE_SCRIPT = new DefaultRedisScript<>("""
+            local count = tonumber(redis.call('HGET', KEYS[1], 'count') or '0')
+            if count == 0 then
+                return -1
+            end
+            redis.call('HINCRBY', KEYS[1], 'score:' .. (count - 1), ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return count - 1
+            """, Long.class);
 
     private final RedisTemplate<String, InterviewRedis> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Long save(String roomId, InterviewRedis interview) {
+        stringRedisTemplate.execute(
+                SAVE_SCRIPT,
+                RedisSerializer.byteArray(),
+                LONG_RESULT_SERIALIZER,
+                List.of(keyOf(roomId, interview.getUserId())),
+                answerSerializer().serialize(interview),
+                String.valueOf(SESSION_TTL_MILLIS).getBytes(UTF_8)
+        );
 
-    public Long save(InterviewRedis interview) {
-        String key = INTERVIEW_PREFIX + interview.getUserId();
+        return interview.getUserId();
+    }
 
-        redisTemplate.opsForList().rightPush(key, interview);
-        redisTemplate.expire(key, 600, TimeUnit.SECONDS);
+    public List<InterviewRedis> findByUserId(String roomId, Long userId) {
+        return findInterviewsBy(roomId, userId);
+    }
 
-        return interview.getUserId();
+    public InterviewInfos findBy(String roomId, Long userId) {
+        return new InterviewInfos(findInterviewsBy(roomId, userId));
     }
 
-    public List<InterviewRedis> findByUserId(Long userId) {
-        String key = INTERVIEW_PREFIX + userId;
+    public List<Integer> findScoresBy(String roomId, Long userId) {
+        String key = keyOf(roomId, userId);
+        int count = countOf(key);
+        if (count == 0) {
+            return List.of();
+        }
 
-        return redisTemplate.opsForList().range(key, 0, -1);
+        List<Object> scores = stringRedisTemplate.opsForHash().multiGet(key, fieldsOf(SCORE_FIELD_PREFIX, count));
+
+        return scores.stream()
+                .map(score -> score == null ? 0 : Integer.parseInt((String) score))
+                .toList();
     }
 
-    public InterviewInfos findBy(Long userId) {
-        String key = INTERVIEW_PREFIX + userId;
+    public Long scoreInterview(String roomId, Long userId, int evaluationScore) {
+        Long scoredIndex = stringRedisTemplate.execute(
+                SCORE_SCRIPT,
+                List.of(keyOf(roomId, userId)),
+                String.valueOf(evaluationScore),
+                String.valueOf(SESSION_TTL_MILLIS)
+        );
+
+        if (scoredIndex == null || scoredIndex < 0) {
+            throw new InterviewAnswerNotFoundException("Interview answer not found");
+        }
 
-        return new InterviewInfos(redisTemplate.opsForList().range(key, 0, -1));
+        return userId;
     }
 
-    public Long scoreInterview(Long userId, int evaluationScore) {
-        String key = INTERVIEW_PREFIX + userId;
+    public void delete(String roomId, Long userId) {
+        stringRedisTemplate.delete(keyOf(roomId, userId));
+    }
 
-        InterviewRedis interviewRedis = redisTemplate.opsForList().rightPop(key);
+    // KEYS 대신 SCAN 으로 나눠 읽으며 지워 Redis 를 오래 막지 않는다.
+    public void deleteAll() {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(
+                ScanOptions.scanOptions().match(INTERVIEW_PREFIX + "*").count(SCAN_COUNT).build())) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_COUNT) {
+                    stringRedisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+        }
+
+        if (!keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+    }
+
+    private List<InterviewRedis> findInterviewsBy(String roomId, Long userId) {
+        byte[] key = keyOf(roomId, userId).getBytes(UTF_8);
+
+        Map<byte[], byte[]> fields = stringRedisTemplate.execute(
+                (RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(key)
+        );
+        if (fields == null || fields.isEmpty()) {
+            return List.of();
+        }
+
+        int count = 0;
+        for (Map.Entry<byte[], byte[]> field : fields.entrySet()) {
+            if (COUNT_FIELD.equals(new String(field.getKey(), UTF_8))) {
+                count = Integer.parseInt(new String(field.getValue(), UTF_8));
+            }
+        }
+
+        InterviewRedis[] interviews = new InterviewRedis[count];
+        int[] scores = new int[count];
+        for (Map.Entry<byte[], byte[]> field : fields.entrySet()) {
+            String name = new String(field.getKey(), UTF_8);
+            if (name.startsWith(ANSWER_FIELD_PREFIX)) {
+                interviews[indexOf(name, ANSWER_FIELD_PREFIX)] = answerSerializer().deserialize(field.getValue());
+            } else if (name.startsWith(SCORE_FIELD_PREFIX)) {
+                scores[indexOf(name, SCORE_FIELD_PREFIX)] = Integer.parseInt(new String(field.getValue(), UTF_8));
+            }
+        }
+
+        List<InterviewRedis> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (interviews[i] == null) {
+                continue;
+            }
+            interviews[i].addScore(scores[i]);
+            result.add(interviews[i]);
+        }
+
+        return result;
+    }
 
-        interviewRedis.addScore(evaluationScore);
+    private int countOf(String key) {
+        Object count = stringRedisTemplate.opsForHash().get(key, COUNT_FIELD);
+        return count == null ? 0 : Integer.parseInt((String) count);
+    }
 
-        redisTemplate.opsForList().rightPush(key, interviewRedis);
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<InterviewRedis> answerSerializer() {
+        return (RedisSerializer<InterviewRedis>) redisTemplate.getValueSerializer();
+    }
 
-        return userId;
+    private static List<Object> fieldsOf(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> (Object) (prefix + index))
+                .toList();
     }
 
-    public void delete(Long userId) {
-        String key = INTERVIEW_PREFIX + userId;
-        redisTemplate.delete(key);
+    private static int indexOf(String field, String prefix) {
+        return Integer.parseInt(field.substring(prefix.length()));
     }
 
-    public void deleteAll() {
-        Set<String> keys = redisTemplate.keys(INTERVIEW_PREFIX + "*");
-        redisTemplate.delete(keys);
+    private static String keyOf(String roomId, Long userId) {
+        return INTERVIEW_PREFIX + roomId + ":" + userId;
     }
 }
@@ -0,0 +1,60 @@
+package com.ssafy.ssafyro.domain.interview;
+
+import com.ssafy.ssafyro.config.redis.VersionedBinaryRedisSerializer;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public class InterviewRedisSerializer extends VersionedBinaryRedisSerializer<InterviewRedis> {
+
+    private static final int SCHEMA = 2;
+    private static final int VERSION = 1;
+
+    public InterviewRedisSerializer() {
+        super(InterviewRedis.class, SCHEMA, VERSION);
+    }
+
+    @Override
+    protected void writeBody(DataOutputStream out, InterviewRedis interview) throws IOException {
+        out.writeBoolean(interview.getUserId() != null);
+        if (interview.getUserId() != null) {
+            writeVarLong(out, interview.getUserId());
+        }
+        writeString(out, interview.getQuestion());
+        writeString(out, interview.getAnswer());
+        writeVarInt(out, interview.getPronunciationScore());
+        writeVarInt(out, interview.getEvaluationScore());
+        out.writeDouble(interview.getHappy());
+        out.writeDouble(interview.getDisgust());
+        out.writeDouble(interview.getSad());
+        out.writeDouble(interview.getSurprise());
+        out.writeDouble(interview.getFear());
+        out.writeDouble(interview.getAngry());
+        out.writeDouble(interview.getNeutral());
+    }
+
+    @Override
+    protected InterviewRedis readBody(DataInputStream in, int version) throws IOException {
+        return switch (version) {
+            case 1 -> readVersion1(in);
+            default -> throw new IOException("Unsupported InterviewRedis version " + version);
+        };
+    }
+
+    private static InterviewRedis readVersion1(DataInputStream in) throws IOException {
+        return InterviewRedis.builder()
+                .userId(in.readBoolean() ? readVarLong(in) : null)
+                .question(readString(in))
+                .answer(readString(in))
+                .pronunciationScore(readVarInt(in))
+                .evaluationScore(readVarInt(in))
+                .happy(in.readDouble())
+                .disgust(in.readDouble())
+                .sad(in.readDouble())
+                .surprise(in.readDouble())
+                .fear(in.readDouble())
+                .angry(in.readDouble())
+                .neutral(in.readDouble())
+                .build();
+    }
+}
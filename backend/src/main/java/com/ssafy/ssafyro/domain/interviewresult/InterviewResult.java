@@ -1,6 +1,5 @@
 package com.ssafy.ssafyro.domain.interviewresult;
 
-import com.ssafy.ssafyro.api.service.ai.AIResponseGenerator;
 import com.ssafy.ssafyro.api.service.report.Expression;
 import com.ssafy.ssafyro.domain.BaseEntity;
 import com.ssafy.ssafyro.domain.interview.InterviewRedis;
@@ -92,14 +91,7 @@ public class InterviewResult extends BaseEntity {
         this.angry = angry;
     }
 
-    public static InterviewResult create(Report report,
-                                         InterviewRedis interviewRedis,
-                                         AIResponseGenerator aiResponseGenerator) {
-        String feedback = aiResponseGenerator.generateFeedbackBy(
-                interviewRedis.getQuestion(),
-                interviewRedis.getAnswer()
-        );
-
+    public static InterviewResult create(Report report, InterviewRedis interviewRedis, String feedback) {
         return InterviewResult.builder()
                 .report(report)
                 .question(interviewRedis.getQuestion())
@@ -104,7 +104,7 @@ public class InterviewResultDocument {
 
     public static InterviewResultDocument create(InterviewRedis interviewRedis,
                                                  KoMorAnGenerator generator) {
-        List<String> questionTags = generator.createTags(interviewRedis.getQuestion());
+        List<String> questionTags = generator.createQuestionTags(interviewRedis.getQuestion());
         List<String> answerTags = generator.createTags(interviewRedis.getAnswer());
 
         return new InterviewResultDocument(interviewRedis, questionTags, answerTags);
@@ -5,6 +5,8 @@ import com.ssafy.ssafyro.domain.room.entity.Room;
 import com.ssafy.ssafyro.domain.user.User;
 import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -17,6 +19,7 @@ import jakarta.persistence.OneToOne;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -41,11 +44,17 @@ public abstract class Report extends BaseEntity {
 
     private int pronunciationScore;
 
+    // 상태 컬럼이 생기기 전에 저장된 레포트는 이미 생성이 끝난 것이므로 DONE 으로 본다.
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'DONE'")
+    private ReportStatus status;
+
     protected Report(User user, Room room, int totalScore, int pronunciationScore) {
         this.user = user;
         this.room = room;
         this.totalScore = totalScore;
         this.pronunciationScore = pronunciationScore;
+        this.status = ReportStatus.PENDING;
     }
 
     public Long getUserId() {
@@ -55,5 +64,23 @@ public abstract class Report extends BaseEntity {
     public boolean isPresentation() {
         return room.isPresentation();
     }
-    
+
+    public ReportStatus getStatus() {
+        return status == null ? ReportStatus.DONE : status;
+    }
+
+    public boolean isPending() {
+        return getStatus().isPending();
+    }
+
+    public void complete() {
+        this.status = ReportStatus.DONE;
+    }
+
+    // 이미 완료된 레포트는 뒤늦은 오류로 실패가 되지 않게 생성 중일 때만 바꾼다.
+    public void fail() {
+        if (isPending()) {
+            this.status = ReportStatus.FAILED;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import static com.ssafy.ssafyro.domain.interviewresult.QInterviewResult.intervie
 import static com.ssafy.ssafyro.domain.report.QReport.report;
 import static com.ssafy.ssafyro.domain.room.entity.QRoom.room;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ssafy.ssafyro.domain.report.dto.QReportAllScoreAverageDto;
 import com.ssafy.ssafyro.domain.report.dto.QReportExpressionDto;
@@ -70,6 +71,7 @@ public class ReportQueryRepositoryImpl implements ReportQueryRepository {
                         .where(
                                 report.user.eq(user)
                                         .and(room.type.eq(type))
+                                        .and(isDone())
                         )
                         .groupBy(report.user)
                         .fetchOne()
@@ -90,6 +92,7 @@ public class ReportQueryRepositoryImpl implements ReportQueryRepository {
                         .join(report.room, room)
                         .where(
                                 room.type.eq(type)
+                                        .and(isDone())
                         )
                         .fetchOne()
         );
@@ -110,6 +113,7 @@ public class ReportQueryRepositoryImpl implements ReportQueryRepository {
                 .where(
                         report.user.eq(user)
                                 .and(room.type.eq(type))
+                                .and(isDone())
                 )
                 .fetch();
     }
@@ -135,10 +139,15 @@ public class ReportQueryRepositoryImpl implements ReportQueryRepository {
                         .where(
                                 report.user.eq(user)
                                         .and(room.type.eq(type))
+                                        .and(isDone())
                         )
                         .groupBy(report.user)
                         .fetchOne()
         );
     }
 
+    // 생성 중이거나 실패한 레포트는 결과가 없으므로 통계에서 뺀다.
+    private static BooleanExpression isDone() {
+        return report.status.eq(ReportStatus.DONE);
+    }
 }
@@ -7,5 +7,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface ReportRepository extends JpaRepository<Report, Long>, ReportQueryRepository {
 
-    Page<Report> findAllByUserOrderByCreatedDateDesc(User user, Pageable pageable);
+    Page<Report> findAllByUserAndStatusOrderByCreatedDateDesc(User user, ReportStatus status, Pageable pageable);
 }
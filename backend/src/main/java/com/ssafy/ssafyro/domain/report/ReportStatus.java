@@ -0,0 +1,19 @@
+package com.ssafy.ssafyro.domain.report;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReportStatus {
+
+    PENDING("생성 중"),
+    DONE("생성 완료"),
+    FAILED("생성 실패");
+
+    private final String text;
+
+    public boolean isPending() {
+        return PENDING.equals(this);
+    }
+}
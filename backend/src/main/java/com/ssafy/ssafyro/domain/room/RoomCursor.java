@@ -0,0 +1,45 @@
+package com.ssafy.ssafyro.domain.room;
+
+import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Base64;
+
+/**
+ * 방 목록의 마지막 방 위치. 방 목록은 (생성 시각, 방 ID) 내림차순으로 정렬되어 있다.
+ */
+public record RoomCursor(long createdMillis, String roomId) {
+
+    private static final String DELIMITER = ":";
+
+    public static RoomCursor from(RoomRedis room) {
+        return new RoomCursor(
+                room.getCreatedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                room.getId()
+        );
+    }
+
+    public static RoomCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(DELIMITER, 2);
+            return new RoomCursor(Long.parseLong(values[0]), values[1]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid room cursor", e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((createdMillis + DELIMITER + roomId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFollowedBy(double score, String roomId) {
+        return score < createdMillis || (score == createdMillis && roomId.compareTo(this.roomId) < 0);
+    }
+}
@@ -3,5 +3,6 @@ package com.ssafy.ssafyro.domain.room;
 import lombok.Builder;
 
 @Builder
-public record RoomFilterCondition(String title, String type, Integer capacity, String status, int page, int size) {
+public record RoomFilterCondition(String title, String type, Integer capacity, String status, int page, int size,
+                                  RoomCursor cursor) {
 }
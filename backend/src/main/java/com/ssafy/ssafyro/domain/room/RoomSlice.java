@@ -0,0 +1,10 @@
+package com.ssafy.ssafyro.domain.room;
+
+import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
+import java.util.List;
+
+/**
+ * 방 목록 한 페이지. nextCursor 는 이번에 마지막으로 읽은 인덱스 위치이며, 인덱스를 끝까지 읽었으면 null 이다.
+ */
+public record RoomSlice(List<RoomRedis> rooms, RoomCursor nextCursor) {
+}
@@ -1,5 +1,6 @@
 package com.ssafy.ssafyro.domain.room;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -7,15 +8,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum RoomStatus {
 
-    WAIT("모집 중"),
-    ING("진행 중"),
-    END("종료");
+    WAIT("모집 중", Duration.ofHours(1)),
+    ING("진행 중", Duration.ofHours(3)),
+    END("종료", Duration.ofMinutes(10));
 
     private final String text;
+    private final Duration ttl;
 
     public boolean isRecruiting() {
         return WAIT.equals(this);
     }
 
 }
-
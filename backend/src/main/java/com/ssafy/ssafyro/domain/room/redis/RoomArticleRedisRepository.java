@@ -0,0 +1,51 @@
+package com.ssafy.ssafyro.domain.room.redis;
+
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PT 면접 방에 배정된 기사 id 를 방 키와 같은 TTL 로 보관한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class RoomArticleRedisRepository {
+
+    private static final String ROOM_PREFIX = "room:";
+    private static final String ARTICLE_SUFFIX = ":article";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<Long> findArticleIdBy(String roomId) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(articleKey(roomId)))
+                .map(Long::valueOf);
+    }
+
+    /**
+     * 방에 기사가 배정되어 있지 않을 때만 배정하고, 최종적으로 방에 배정된 기사 id 를 반환한다.
+     */
+    public Long pin(String roomId, Long articleId, Duration ttl) {
+        Boolean pinned = stringRedisTemplate.opsForValue()
+                .setIfAbsent(articleKey(roomId), String.valueOf(articleId), ttl);
+
+        if (Boolean.TRUE.equals(pinned)) {
+            return articleId;
+        }
+
+        return findArticleIdBy(roomId).orElse(articleId);
+    }
+
+    public void expire(String roomId, Duration ttl) {
+        stringRedisTemplate.expire(articleKey(roomId), ttl);
+    }
+
+    public void delete(String roomId) {
+        stringRedisTemplate.delete(articleKey(roomId));
+    }
+
+    private static String articleKey(String roomId) {
+        return ROOM_PREFIX + roomId + ARTICLE_SUFFIX;
+    }
+}
@@ -0,0 +1,63 @@
+package com.ssafy.ssafyro.domain.room.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 방 변경을 Redis pub/sub 으로 다른 노드에 알린다.
+ * 메시지는 "{nodeId}:{roomId}" 형태이며 자신이 보낸 메시지는 무시한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class RoomChangeNotifier implements MessageListener {
+
+    public static final String CHANNEL = "room-changed";
+
+    private static final String NODE_ID = UUID.randomUUID().toString();
+    private static final String DELIMITER = ":";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RoomRedisNearCache roomRedisNearCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void publish(String roomId) {
+        roomRedisNearCache.evict(roomId);
+
+        // 트랜잭션 안에서 저장된 방은 커밋된 뒤에야 Redis 에 반영되므로 그때 알린다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    roomRedisNearCache.evict(roomId);
+                    send(roomId);
+                }
+            });
+            return;
+        }
+
+        send(roomId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] payload = new String(message.getBody(), StandardCharsets.UTF_8).split(DELIMITER, 2);
+        if (payload.length != 2 || NODE_ID.equals(payload[0])) {
+            return;
+        }
+
+        roomRedisNearCache.evict(payload[1]);
+        eventPublisher.publishEvent(new RoomChangedEvent(payload[1]));
+    }
+
+    private void send(String roomId) {
+        stringRedisTemplate.convertAndSend(CHANNEL, NODE_ID + DELIMITER + roomId);
+    }
+}
@@ -0,0 +1,4 @@
+package com.ssafy.ssafyro.domain.room.redis;
+
+public record RoomChangedEvent(String roomId) {
+}
@@ -0,0 +1,19 @@
+package com.ssafy.ssafyro.domain.room.redis;
+
+public record RoomJoinResult(int participantCount) {
+
+    static final int DUPLICATED = 0;
+    static final int FULL = -1;
+
+    public boolean isDuplicated() {
+        return participantCount == DUPLICATED;
+    }
+
+    public boolean isFull() {
+        return participantCount == FULL;
+    }
+
+    public boolean isJoined() {
+        return participantCount > 0;
+    }
+}
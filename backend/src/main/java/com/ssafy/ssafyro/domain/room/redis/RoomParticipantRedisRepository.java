@@ -0,0 +1,135 @@
+package com.ssafy.ssafyro.domain.room.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@RequiredArgsConstructor
+@Repository
+public class RoomParticipantRedisRepository {
+
+    private static final String ROOM_PREFIX = "room:";
+    private static final String PARTICIPANTS_SUFFIX = ":participants";
+
+    private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>("""
+            local participants = redis.call('LRANGE', KEYS[1], 0, -1)
+            for _, participant in ipairs(participants) do
+                if participant == ARGV[1] then
+                    return 0
+                end
+            end
+            if #participants >= tonumber(ARGV[2]) then
+                return -1
+            end
+            local count = redis.call('RPUSH', KEYS[1], ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return count
+            """, Long.class);
+
+    private static final RedisScript<List> LEAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('LREM', KEYS[1], 0, ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return redis.call('LRANGE', KEYS[1], 0, -1)
+            """, List.class);
+
+    // 참여자 키가 아직 없을 때만 이전 방 문서의 참여자 목록으로 채운다.
+    private static final RedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, 2))
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return redis.call('LLEN', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RoomChangeNotifier roomChangeNotifier;
+
+    public RoomJoinResult join(RoomRedis room, Long userId) {
+        String roomId = room.getId();
+        Long result = stringRedisTemplate.execute(
+                JOIN_SCRIPT,
+                List.of(participantsKey(roomId), roomKey(roomId)),
+                String.valueOf(userId),
+                String.valueOf(room.getCapacity()),
+                String.valueOf(room.getStatus().getTtl().toMillis())
+        );
+
+        RoomJoinResult joinResult = new RoomJoinResult(result == null ? RoomJoinResult.FULL : result.intValue());
+        if (joinResult.isJoined()) {
+            roomChangeNotifier.publish(roomId);
+        }
+        return joinResult;
+    }
+
+    @SuppressWarnings("unchecked")
+    public RoomParticipants leave(RoomRedis room, Long userId) {
+        String roomId = room.getId();
+        List<String> remains = stringRedisTemplate.execute(
+                LEAVE_SCRIPT,
+                List.of(participantsKey(roomId), roomKey(roomId)),
+                String.valueOf(userId),
+                String.valueOf(room.getStatus().getTtl().toMillis())
+        );
+        roomChangeNotifier.publish(roomId);
+
+        return RoomParticipants.from(remains);
+    }
+
+    public void migrate(String roomId, List<Long> userIds, Duration ttl) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        userIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        stringRedisTemplate.execute(MIGRATE_SCRIPT, List.of(participantsKey(roomId)), args.toArray());
+    }
+
+    public RoomParticipants findAllBy(String roomId) {
+        return RoomParticipants.from(
+                stringRedisTemplate.opsForList().range(participantsKey(roomId), 0, -1)
+        );
+    }
+
+    public Map<String, Integer> countAllBy(Collection<String> roomIds) {
+        List<String> orderedRoomIds = List.copyOf(roomIds);
+
+        List<Object> counts = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            orderedRoomIds.forEach(roomId -> stringConnection.lLen(participantsKey(roomId)));
+            return null;
+        });
+
+        Map<String, Integer> participantCounts = new HashMap<>();
+        for (int i = 0; i < orderedRoomIds.size(); i++) {
+            participantCounts.put(orderedRoomIds.get(i), ((Long) counts.get(i)).intValue());
+        }
+        return participantCounts;
+    }
+
+    public void expire(String roomId, Duration ttl) {
+        stringRedisTemplate.expire(participantsKey(roomId), ttl);
+    }
+
+    public void deleteAllBy(String roomId) {
+        stringRedisTemplate.delete(participantsKey(roomId));
+    }
+
+    private static String roomKey(String roomId) {
+        return ROOM_PREFIX + roomId;
+    }
+
+    private static String participantsKey(String roomId) {
+        return ROOM_PREFIX + roomId + PARTICIPANTS_SUFFIX;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ssafy.ssafyro.domain.room.redis;
+
+import java.util.List;
+
+public record RoomParticipants(List<Long> userIds) {
+
+    public static RoomParticipants from(List<String> userIds) {
+        if (userIds == null) {
+            return new RoomParticipants(List.of());
+        }
+
+        return new RoomParticipants(
+                userIds.stream()
+                        .map(Long::valueOf)
+                        .toList()
+        );
+    }
+
+    public int size() {
+        return userIds.size();
+    }
+
+    public boolean isStageOver(int stageIndex) {
+        return stageIndex >= userIds.size();
+    }
+
+    public Long getNowUser(int index) {
+        return userIds.get(index);
+    }
+}
@@ -1,6 +1,9 @@
 package com.ssafy.ssafyro.domain.room.redis;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
@@ -9,7 +12,6 @@ import com.ssafy.ssafyro.domain.room.RoomStatus;
 import com.ssafy.ssafyro.domain.room.RoomType;
 import com.ssafy.ssafyro.domain.room.entity.Room;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -19,6 +21,7 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class RoomRedis {
 
     private String id;
@@ -27,12 +30,16 @@ public class RoomRedis {
     private RoomType type;
     private RoomStatus status;
     private int capacity;
-    private List<Long> userList;
 
     @JsonSerialize(using = LocalDateTimeSerializer.class)
     @JsonDeserialize(using = LocalDateTimeDeserializer.class)
     private LocalDateTime createdDate;
 
+    // 참여자 목록을 별도 키로 옮기기 전에 JSON 으로 저장된 방에만 있는 값. 읽을 때 참여자 키로 옮긴다.
+    @Getter(AccessLevel.NONE)
+    @JsonProperty(value = "userList", access = Access.WRITE_ONLY)
+    private List<Long> legacyUserList;
+
     @Builder
     private RoomRedis(String title, String description, RoomType type, int capacity) {
         this.id = UUID.randomUUID().toString();
@@ -41,10 +48,20 @@ public class RoomRedis {
         this.type = type;
         this.status = RoomStatus.WAIT;
         this.capacity = capacity;
-        this.userList = new ArrayList<>();
         this.createdDate = LocalDateTime.now();
     }
 
+    RoomRedis(String id, String title, String description, RoomType type, RoomStatus status, int capacity,
+              LocalDateTime createdDate) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.type = type;
+        this.status = status;
+        this.capacity = capacity;
+        this.createdDate = createdDate;
+    }
+
     public void startInterview() {
         status = RoomStatus.ING;
     }
@@ -61,14 +78,6 @@ public class RoomRedis {
                 .build();
     }
 
-    public void addParticipant(Long userId) {
-        userList.add(userId);
-    }
-
-    public void removeParticipant(Long userId) {
-        userList.remove(userId);
-    }
-
     public String generateKey() {
         return String.format("room:%s:%d:%s:%s", this.type, this.capacity, this.status, this.id);
     }
@@ -78,18 +87,14 @@ public class RoomRedis {
         return status.isRecruiting();
     }
 
-    @JsonIgnore
-    public boolean isEnoughCapacity() {
-        return userList.size() < capacity;
+    boolean hasLegacyUserList() {
+        return legacyUserList != null && !legacyUserList.isEmpty();
     }
 
-    @JsonIgnore
-    public boolean isStageOver(int stageIndex) {
-        return stageIndex >= userList.size();
+    List<Long> drainLegacyUserList() {
+        List<Long> userList = hasLegacyUserList() ? List.copyOf(legacyUserList) : List.of();
+        legacyUserList = null;
+        return userList;
     }
 
-    public Long getNowUser(int index) {
-        return userList.get(index);
-    }
-    
 }
@@ -0,0 +1,321 @@
+package com.ssafy.ssafyro.domain.room.redis;
+
+import com.ssafy.ssafyro.domain.room.RoomCursor;
+import com.ssafy.ssafyro.domain.room.RoomFilterCondition;
+import com.ssafy.ssafyro.domain.room.RoomStatus;
+import com.ssafy.ssafyro.domain.room.RoomType;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class RoomRedisIndex {
+
+    private static final String INDEX_PREFIX = "room:index:";
+    private static final String ALL_KEY = INDEX_PREFIX + "all";
+    private static final String TYPE_PREFIX = INDEX_PREFIX + "type:";
+    private static final String STATUS_PREFIX = INDEX_PREFIX + "status:";
+    private static final String CAPACITY_PREFIX = INDEX_PREFIX + "capacity:";
+    private static final String TITLE_PREFIX = INDEX_PREFIX + "title:";
+    private static final String QUERY_PREFIX = INDEX_PREFIX + "query:";
+    private static final String KEYS_PREFIX = INDEX_PREFIX + "keys:";
+    private static final long QUERY_TTL_SECONDS = 10;
+    private static final String ROOM_PREFIX = "room:";
+    private static final int SCAN_COUNT = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void add(RoomRedis room) {
+        double score = scoreOf(room);
+        String statusKey = STATUS_PREFIX + room.getStatus();
+
+        List<String> indexKeys = new ArrayList<>();
+        indexKeys.add(ALL_KEY);
+        indexKeys.add(TYPE_PREFIX + room.getType());
+        indexKeys.add(CAPACITY_PREFIX + room.getCapacity());
+        titleGramsOf(room.getTitle())
+                .forEach(gram -> indexKeys.add(TITLE_PREFIX + gram));
+        indexKeys.add(statusKey);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            indexKeys.forEach(key -> stringConnection.zAdd(key, score, room.getId()));
+            for (RoomStatus status : RoomStatus.values()) {
+                if (status != room.getStatus()) {
+                    stringConnection.zRem(STATUS_PREFIX + status, room.getId());
+                }
+            }
+            stringConnection.sAdd(KEYS_PREFIX + room.getId(), indexKeys.toArray(String[]::new));
+            return null;
+        });
+    }
+
+    public void remove(RoomRedis room) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            stringConnection.zRem(ALL_KEY, room.getId());
+            stringConnection.zRem(TYPE_PREFIX + room.getType(), room.getId());
+            stringConnection.zRem(CAPACITY_PREFIX + room.getCapacity(), room.getId());
+            titleGramsOf(room.getTitle())
+                    .forEach(gram -> stringConnection.zRem(TITLE_PREFIX + gram, room.getId()));
+
+            for (RoomStatus status : RoomStatus.values()) {
+                stringConnection.zRem(STATUS_PREFIX + status, room.getId());
+            }
+            stringConnection.del(KEYS_PREFIX + room.getId());
+            return null;
+        });
+    }
+
+    public List<String> findRoomIdsBy(RoomFilterCondition condition, long offset, long count) {
+        long end = count < 0 ? -1 : offset + count - 1;
+
+        List<Object> results = queryIndex(condition, (connection, key) -> connection.zRevRange(key, offset, end));
+
+        return toList((Set<String>) results.get(0));
+    }
+
+    /**
+     * cursor 다음 방부터 count 개의 인덱스 위치를 조회한다. cursor 가 null 이면 처음부터 조회한다.
+     * cursor 와 생성 시각이 같은 방들은 따로 읽어 ID 로 이어서 조회한다.
+     */
+    public List<RoomCursor> findCursorsAfter(RoomFilterCondition condition, RoomCursor cursor, long count) {
+        if (cursor == null) {
+            List<Object> results = queryIndex(condition,
+                    (connection, key) -> connection.zRevRangeWithScores(key, 0, count - 1));
+            return toCursors((Set<TypedTuple<String>>) results.get(0));
+        }
+
+        double score = cursor.createdMillis();
+        List<Object> results = queryIndex(condition, (connection, key) -> {
+            connection.zRevRangeByScoreWithScores(key, score, score);
+            connection.zRevRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, score - 1, 0, count);
+        });
+
+        List<RoomCursor> cursors = new ArrayList<>();
+        for (RoomCursor tie : toCursors((Set<TypedTuple<String>>) results.get(0))) {
+            if (cursor.isFollowedBy(tie.createdMillis(), tie.roomId())) {
+                cursors.add(tie);
+            }
+        }
+        cursors.addAll(toCursors((Set<TypedTuple<String>>) results.get(1)));
+
+        return cursors.subList(0, (int) Math.min(count, cursors.size()));
+    }
+
+    public long count() {
+        Long count = stringRedisTemplate.opsForZSet().zCard(ALL_KEY);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 방 키가 만료된 뒤에도 남아있는 인덱스 항목을 정리하고 정리된 방 ID 를 반환한다.
+     * 트랜잭션 커밋 전이라 아직 방 키가 없는 새 방은 createdBefore 이후 생성된 것으로 보고 건너뛴다.
+     */
+    public List<String> removeExpiredRooms(LocalDateTime createdBefore) {
+        double maxScore = createdBefore.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        List<String> expiredRoomIds = new ArrayList<>();
+        List<String> batch = new ArrayList<>();
+
+        try (Cursor<TypedTuple<String>> cursor = stringRedisTemplate.opsForZSet()
+                .scan(ALL_KEY, ScanOptions.scanOptions().count(SCAN_COUNT).build())) {
+            while (cursor.hasNext()) {
+                TypedTuple<String> room = cursor.next();
+                if (room.getScore() == null || room.getScore() > maxScore) {
+                    continue;
+                }
+
+                batch.add(room.getValue());
+                if (batch.size() == SCAN_COUNT) {
+                    expiredRoomIds.addAll(findExpired(batch));
+                    batch.clear();
+                }
+            }
+        }
+        expiredRoomIds.addAll(findExpired(batch));
+
+        if (!expiredRoomIds.isEmpty()) {
+            removeFromIndexes(expiredRoomIds);
+        }
+        return expiredRoomIds;
+    }
+
+    private List<String> findExpired(List<String> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> exists = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            roomIds.forEach(roomId -> stringConnection.exists(ROOM_PREFIX + roomId));
+            return null;
+        });
+
+        List<String> expiredRoomIds = new ArrayList<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            if (!Boolean.TRUE.equals(exists.get(i))) {
+                expiredRoomIds.add(roomIds.get(i));
+            }
+        }
+        return expiredRoomIds;
+    }
+
+    // 방 키가 이미 만료되어 속성을 알 수 없으므로 add 에서 기록해 둔 방별 인덱스 키 목록으로 지운다.
+    // 키 목록이 없는 이전 방도 전체, 유형, 상태 인덱스에서는 빠지도록 함께 지운다.
+    private void removeFromIndexes(List<String> roomIds) {
+        List<Object> indexKeys = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            roomIds.forEach(roomId -> stringConnection.sMembers(KEYS_PREFIX + roomId));
+            return null;
+        });
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int i = 0; i < roomIds.size(); i++) {
+                String roomId = roomIds.get(i);
+                Set<String> keys = new LinkedHashSet<>(commonIndexKeys());
+                keys.addAll((Set<String>) indexKeys.get(i));
+
+                keys.forEach(key -> stringConnection.zRem(key, roomId));
+                stringConnection.del(KEYS_PREFIX + roomId);
+            }
+            return null;
+        });
+    }
+
+    private static List<String> commonIndexKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(ALL_KEY);
+        for (RoomType type : RoomType.values()) {
+            keys.add(TYPE_PREFIX + type);
+        }
+        for (RoomStatus status : RoomStatus.values()) {
+            keys.add(STATUS_PREFIX + status);
+        }
+        return keys;
+    }
+
+    private List<Object> queryIndex(RoomFilterCondition condition,
+                                    BiConsumer<StringRedisConnection, String> query) {
+        List<String> keys = indexKeysOf(condition);
+
+        if (keys.size() == 1) {
+            return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                query.accept((StringRedisConnection) connection, keys.get(0));
+                return null;
+            });
+        }
+
+        String queryKey = QUERY_PREFIX + UUID.randomUUID();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            stringConnection.zInterStore(queryKey, Aggregate.MAX, Weights.fromSetCount(keys.size()),
+                    keys.toArray(String[]::new));
+            stringConnection.expire(queryKey, QUERY_TTL_SECONDS);
+            query.accept(stringConnection, queryKey);
+            stringConnection.del(queryKey);
+            return null;
+        });
+
+        return results.subList(2, results.size() - 1);
+    }
+
+    private List<String> indexKeysOf(RoomFilterCondition condition) {
+        List<String> keys = new ArrayList<>();
+
+        if (condition.type() != null) {
+            keys.add(TYPE_PREFIX + condition.type());
+        }
+        if (condition.status() != null) {
+            keys.add(STATUS_PREFIX + condition.status());
+        }
+        if (condition.capacity() != null) {
+            keys.add(CAPACITY_PREFIX + condition.capacity());
+        }
+        queryGramsOf(condition.title())
+                .forEach(gram -> keys.add(TITLE_PREFIX + gram));
+        if (keys.isEmpty()) {
+            keys.add(ALL_KEY);
+        }
+
+        return keys;
+    }
+
+    /**
+     * 제목의 모든 1글자, 2글자 조각. 한 글자 검색은 1글자 조각으로, 그 이상은 2글자 조각의 교집합으로 찾는다.
+     * 조각이 모두 포함되어도 연속된 문자열이 아닐 수 있으므로 조회한 뒤 제목으로 한 번 더 거른다.
+     */
+    private static Set<String> titleGramsOf(String title) {
+        if (title == null) {
+            return Set.of();
+        }
+
+        String normalized = title.toLowerCase(Locale.ROOT);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> queryGramsOf(String title) {
+        if (title == null || title.isEmpty()) {
+            return Set.of();
+        }
+
+        String normalized = title.toLowerCase(Locale.ROOT);
+        if (normalized.length() == 1) {
+            return Set.of(normalized);
+        }
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static List<String> toList(Set<String> roomIds) {
+        return roomIds == null ? List.of() : List.copyOf(roomIds);
+    }
+
+    private static List<RoomCursor> toCursors(Set<TypedTuple<String>> rooms) {
+        if (rooms == null) {
+            return List.of();
+        }
+
+        return rooms.stream()
+                .map(room -> new RoomCursor(room.getScore().longValue(), room.getValue()))
+                .toList();
+    }
+
+    private static double scoreOf(RoomRedis room) {
+        return room.getCreatedDate()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+}
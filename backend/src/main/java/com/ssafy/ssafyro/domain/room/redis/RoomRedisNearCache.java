@@ -0,0 +1,47 @@
+package com.ssafy.ssafyro.domain.room.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드별 RoomRedis 로컬 캐시.
+ * RoomRedis 는 변경 가능한 객체라 인코딩된 바이트로 보관하고 조회할 때마다 새 객체로 복원한다.
+ */
+@Component
+public class RoomRedisNearCache {
+
+    private final RoomRedisSerializer serializer = new RoomRedisSerializer();
+    private final Cache<String, byte[]> cache;
+
+    public RoomRedisNearCache(MeterRegistry meterRegistry,
+                              @Value("${room.near-cache.ttl:5s}") Duration ttl,
+                              @Value("${room.near-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "room.near-cache");
+    }
+
+    public Optional<RoomRedis> get(String roomId, Supplier<RoomRedis> loader) {
+        byte[] bytes = cache.get(roomId, key -> {
+            RoomRedis room = loader.get();
+            return room == null ? null : serializer.serialize(room);
+        });
+
+        return Optional.ofNullable(serializer.deserialize(bytes));
+    }
+
+    public void evict(String roomId) {
+        cache.invalidate(roomId);
+    }
+}
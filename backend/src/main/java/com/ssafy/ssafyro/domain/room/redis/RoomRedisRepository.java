@@ -1,71 +1,140 @@
 package com.ssafy.ssafyro.domain.room.redis;
 
+import com.ssafy.ssafyro.domain.room.RoomCursor;
 import com.ssafy.ssafyro.domain.room.RoomFilterCondition;
-import java.util.Comparator;
+import com.ssafy.ssafyro.domain.room.RoomSlice;
+import com.ssafy.ssafyro.domain.room.RoomStatus;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
-import lombok.RequiredArgsConstructor;
-
 @RequiredArgsConstructor
 @Repository
 public class RoomRedisRepository {
-    
+
     private static final String ROOM_PREFIX = "room:";
+    private static final int MIN_SCAN_BATCH = 20;
 
     private final RedisTemplate<String, RoomRedis> redisTemplate;
+    private final RoomRedisIndex roomRedisIndex;
+    private final RoomParticipantRedisRepository roomParticipantRedisRepository;
+    private final RoomArticleRedisRepository roomArticleRedisRepository;
+    private final RoomRedisNearCache roomRedisNearCache;
+    private final RoomChangeNotifier roomChangeNotifier;
 
     public String save(RoomRedis room) {
-        redisTemplate.opsForValue().set(ROOM_PREFIX + room.getId(), room);
+        redisTemplate.opsForValue().set(ROOM_PREFIX + room.getId(), room, room.getStatus().getTtl());
+        roomParticipantRedisRepository.expire(room.getId(), room.getStatus().getTtl());
+        roomArticleRedisRepository.expire(room.getId(), room.getStatus().getTtl());
+        roomRedisIndex.add(room);
+        roomChangeNotifier.publish(room.getId());
         return room.getId();
     }
 
-    public List<RoomRedis> findRoomsBy(RoomFilterCondition condition) {
-        return searchRoomsBy(condition);
+    /**
+     * 인덱스를 순서대로 읽으며 만료되었거나 제목이 맞지 않는 방은 건너뛰고, 한 페이지가 찰 때까지 이어서 읽는다.
+     * 다음 커서는 마지막으로 읽은 인덱스 위치이므로 건너뛴 방 때문에 목록이 일찍 끝나지 않는다.
+     */
+    public RoomSlice findRoomsBy(RoomFilterCondition condition) {
+        if (condition.size() <= 0) {
+            return new RoomSlice(List.of(), null);
+        }
+
+        long skip = condition.cursor() == null ? (long) (condition.page() - 1) * condition.size() : 0;
+        int batchSize = Math.max(condition.size(), MIN_SCAN_BATCH);
+        RoomCursor position = condition.cursor();
+        List<RoomRedis> rooms = new ArrayList<>();
+
+        while (true) {
+            List<RoomCursor> entries = roomRedisIndex.findCursorsAfter(condition, position, batchSize);
+            Map<String, RoomRedis> roomsById = findAllBy(entries.stream().map(RoomCursor::roomId).toList()).stream()
+                    .collect(Collectors.toMap(RoomRedis::getId, Function.identity()));
+
+            for (RoomCursor entry : entries) {
+                position = entry;
+                RoomRedis room = roomsById.get(entry.roomId());
+                if (room == null || !matchesTitle(room, condition.title())) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+
+                rooms.add(room);
+                if (rooms.size() == condition.size()) {
+                    return new RoomSlice(rooms, position);
+                }
+            }
+
+            if (entries.size() < batchSize) {
+                return new RoomSlice(rooms, null);
+            }
+        }
+    }
+
+    public List<RoomRedis> findRecruitingRooms() {
+        RoomFilterCondition condition = RoomFilterCondition.builder()
+                .status(RoomStatus.WAIT.name())
+                .build();
+
+        return findAllBy(roomRedisIndex.findRoomIdsBy(condition, 0, -1));
     }
 
     public Optional<RoomRedis> findBy(String id) {
-        return Optional.ofNullable(redisTemplate.opsForValue().get(ROOM_PREFIX + id));
+        return roomRedisNearCache.get(id, () -> migrateLegacyUserList(redisTemplate.opsForValue().get(ROOM_PREFIX + id)));
     }
 
     public void delete(RoomRedis room) {
         redisTemplate.delete(ROOM_PREFIX + room.getId());
+        roomParticipantRedisRepository.deleteAllBy(room.getId());
+        roomArticleRedisRepository.delete(room.getId());
+        roomRedisIndex.remove(room);
+        roomChangeNotifier.publish(room.getId());
     }
 
-    private List<RoomRedis> searchRoomsBy(RoomFilterCondition condition) {
-        Set<String> keys = Objects.requireNonNull(redisTemplate.keys("room:*"));
-        return paginateRooms(getFilteredRooms(condition, getAllRooms(keys)), condition.page(), condition.size());
+    // 제목 인덱스와 같은 방식으로 대소문자를 구분하지 않고 비교한다.
+    private static boolean matchesTitle(RoomRedis room, String title) {
+        return title == null || room.getTitle().toLowerCase(Locale.ROOT).contains(title.toLowerCase(Locale.ROOT));
     }
 
-    private @NotNull List<RoomRedis> getAllRooms(Set<String> keys) {
-        return keys.stream()
-                .map(key -> redisTemplate.opsForValue().get(key))
-                .filter(Objects::nonNull)
-                .toList();
-    }
+    private @NotNull List<RoomRedis> findAllBy(List<String> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<RoomRedis> rooms = redisTemplate.opsForValue().multiGet(
+                roomIds.stream()
+                        .map(roomId -> ROOM_PREFIX + roomId)
+                        .toList()
+        );
 
-    private static @NotNull List<RoomRedis> getFilteredRooms(RoomFilterCondition condition, List<RoomRedis> allRooms) {
-        return allRooms.stream()
-                .filter(room -> condition.title() == null || room.getTitle().contains(condition.title()))
-                .filter(room -> condition.type() == null || condition.type().equals(room.getType().name()))
-                .filter(room -> condition.capacity() == null || condition.capacity().equals(room.getCapacity()))
-                .filter(room -> condition.status() == null || condition.status().equals(room.getStatus().name()))
+        return Objects.requireNonNull(rooms).stream()
+                .filter(Objects::nonNull)
+                .map(this::migrateLegacyUserList)
                 .toList();
     }
 
+    // 참여자 목록이 방 문서 안에 있던 때 저장된 방은 읽을 때 참여자 키로 옮기고 방을 현재 형식으로 다시 저장한다.
+    private RoomRedis migrateLegacyUserList(RoomRedis room) {
+        if (room == null || !room.hasLegacyUserList()) {
+            return room;
+        }
 
-    private List<RoomRedis> paginateRooms(List<RoomRedis> rooms, int page, int size) {
-        return rooms.stream()
-                .sorted(Comparator.comparing(RoomRedis::getCreatedDate).reversed())
-                .skip((long) (page - 1) * size)
-                .limit(size)
-                .toList();
+        Duration ttl = room.getStatus().getTtl();
+        roomParticipantRedisRepository.migrate(room.getId(), room.drainLegacyUserList(), ttl);
+        redisTemplate.opsForValue().set(ROOM_PREFIX + room.getId(), room, ttl);
+        return room;
     }
 
 }
@@ -0,0 +1,52 @@
+package com.ssafy.ssafyro.domain.room.redis;
+
+import com.ssafy.ssafyro.config.redis.VersionedBinaryRedisSerializer;
+import com.ssafy.ssafyro.domain.room.RoomStatus;
+import com.ssafy.ssafyro.domain.room.RoomType;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public class RoomRedisSerializer extends VersionedBinaryRedisSerializer<RoomRedis> {
+
+    private static final int SCHEMA = 1;
+    private static final int VERSION = 1;
+
+    public RoomRedisSerializer() {
+        super(RoomRedis.class, SCHEMA, VERSION);
+    }
+
+    @Override
+    protected void writeBody(DataOutputStream out, RoomRedis room) throws IOException {
+        writeString(out, room.getId());
+        writeString(out, room.getTitle());
+        writeString(out, room.getDescription());
+        writeEnum(out, room.getType());
+        writeEnum(out, room.getStatus());
+        writeVarInt(out, room.getCapacity());
+        writeVarLong(out, room.getCreatedDate().toEpochSecond(ZoneOffset.UTC));
+        writeVarInt(out, room.getCreatedDate().getNano());
+    }
+
+    @Override
+    protected RoomRedis readBody(DataInputStream in, int version) throws IOException {
+        return switch (version) {
+            case 1 -> readVersion1(in);
+            default -> throw new IOException("Unsupported RoomRedis version " + version);
+        };
+    }
+
+    private static RoomRedis readVersion1(DataInputStream in) throws IOException {
+        return new RoomRedis(
+                readString(in),
+                readString(in),
+                readString(in),
+                readEnum(in, RoomType.class),
+                readEnum(in, RoomStatus.class),
+                readVarInt(in),
+                LocalDateTime.ofEpochSecond(readVarLong(in), readVarInt(in), ZoneOffset.UTC)
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.ssafy.ssafyro.domain.user;
+
+import com.ssafy.ssafyro.domain.user.dto.UserProfileDto;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserQueryRepository {
+
+    List<UserProfileDto> findProfilesBy(Collection<Long> userIds);
+}
@@ -0,0 +1,35 @@
+package com.ssafy.ssafyro.domain.user;
+
+import static com.ssafy.ssafyro.domain.user.QUser.user;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.ssafyro.domain.user.dto.QUserProfileDto;
+import com.ssafy.ssafyro.domain.user.dto.UserProfileDto;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<UserProfileDto> findProfilesBy(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaQueryFactory
+                .select(new QUserProfileDto(
+                        user.id,
+                        user.nickname,
+                        user.profileImageUrl
+                ))
+                .from(user)
+                .where(user.id.in(userIds))
+                .fetch();
+    }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.ssafyro.domain.user.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class UserProfileDto {
+
+    private Long id;
+    private String nickname;
+    private String profileImageUrl;
+
+    @QueryProjection
+    public UserProfileDto(Long id, String nickname, String profileImageUrl) {
+        this.id = id;
+        this.nickname = nickname;
+        this.profileImageUrl = profileImageUrl;
+    }
+}
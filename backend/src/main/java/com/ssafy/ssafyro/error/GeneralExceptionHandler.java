@@ -3,10 +3,14 @@ package com.ssafy.ssafyro.error;
 import static com.ssafy.ssafyro.api.ApiUtils.error;
 
 import com.ssafy.ssafyro.api.ApiUtils.ApiResult;
+import com.ssafy.ssafyro.error.ai.AIResponseUnavailableException;
 import com.ssafy.ssafyro.error.codingtestproblem.CodingTestProblemNotFoundException;
 import com.ssafy.ssafyro.error.essayquestion.EssayQuestionNotFoundException;
+import com.ssafy.ssafyro.error.interview.InterviewAnswerNotFoundException;
 import com.ssafy.ssafyro.error.interviewresult.InterviewResultNotFoundException;
 import com.ssafy.ssafyro.error.report.ReportNotFoundException;
+import com.ssafy.ssafyro.error.room.RoomAlreadyEnteredException;
+import com.ssafy.ssafyro.error.room.RoomFullException;
 import com.ssafy.ssafyro.error.room.RoomNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import java.util.Locale;
@@ -55,6 +59,16 @@ public class GeneralExceptionHandler {
         return newResponse("회의 방을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(RoomFullException.class)
+    public ResponseEntity<?> handleRoomFullException(RoomFullException e) {
+        return newResponse("회의 방의 정원이 가득 찼습니다.", HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(RoomAlreadyEnteredException.class)
+    public ResponseEntity<?> handleRoomAlreadyEnteredException(RoomAlreadyEnteredException e) {
+        return newResponse("이미 입장한 회의 방입니다.", HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(EssayQuestionNotFoundException.class)
     public ResponseEntity<?> handleEssayQuestionNotFoundException(EssayQuestionNotFoundException e) {
         return newResponse("에세이 질문을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
@@ -70,11 +84,22 @@ public class GeneralExceptionHandler {
         return newResponse("레포트를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InterviewAnswerNotFoundException.class)
+    public ResponseEntity<?> handleInterviewAnswerNotFoundException(InterviewAnswerNotFoundException e) {
+        return newResponse("채점할 면접 답변을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(InterviewResultNotFoundException.class)
     public ResponseEntity<?> handleInterviewResultNotFoundException(InterviewResultNotFoundException e) {
         return newResponse("인터뷰 결과를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(AIResponseUnavailableException.class)
+    public ResponseEntity<?> handleAIResponseUnavailableException(AIResponseUnavailableException e) {
+        log.warn("AI response unavailable: {}", e.getMessage());
+        return newResponse("AI 응답을 생성할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler({
             UsernameNotFoundException.class,
             BadCredentialsException.class
@@ -0,0 +1,18 @@
+package com.ssafy.ssafyro.error.ai;
+
+public class AIResponseUnavailableException extends RuntimeException {
+    public AIResponseUnavailableException() {
+    }
+
+    public AIResponseUnavailableException(String message) {
+        super(message);
+    }
+
+    public AIResponseUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public AIResponseUnavailableException(Throwable cause) {
+        super(cause);
+    }
+}
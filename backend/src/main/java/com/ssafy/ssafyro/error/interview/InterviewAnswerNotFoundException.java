@@ -0,0 +1,21 @@
+package com.ssafy.ssafyro.error.interview;
+
+import com.ssafy.ssafyro.error.NotFoundException;
+
+public class InterviewAnswerNotFoundException extends NotFoundException {
+
+    public InterviewAnswerNotFoundException() {
+    }
+
+    public InterviewAnswerNotFoundException(String message) {
+        super(message);
+    }
+
+    public InterviewAnswerNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InterviewAnswerNotFoundException(Throwable cause) {
+        super(cause);
+    }
+}
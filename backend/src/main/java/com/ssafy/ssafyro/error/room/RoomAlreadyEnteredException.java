@@ -0,0 +1,20 @@
+package com.ssafy.ssafyro.error.room;
+
+public class RoomAlreadyEnteredException extends RuntimeException {
+
+    public RoomAlreadyEnteredException() {
+        super("Room Already Entered Exception");
+    }
+
+    public RoomAlreadyEnteredException(String message) {
+        super(message);
+    }
+
+    public RoomAlreadyEnteredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public RoomAlreadyEnteredException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssafy.ssafyro.error.room;
+
+public class RoomFullException extends RuntimeException {
+
+    public RoomFullException() {
+        super("Room Full Exception");
+    }
+
+    public RoomFullException(String message) {
+        super(message);
+    }
+
+    public RoomFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public RoomFullException(Throwable cause) {
+        super(cause);
+    }
+}
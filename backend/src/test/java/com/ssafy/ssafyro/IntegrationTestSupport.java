@@ -4,7 +4,8 @@ import com.ssafy.ssafyro.api.service.ai.AIResponseGenerator;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
-@SpringBootTest
+// AI 응답을 mock 으로 대체하므로 백그라운드에서 기사 풀을 채우지 않는다.
+@SpringBootTest(properties = {"article.pool.size=0", "komoran.pool.size=1"})
 public abstract class IntegrationTestSupport {
 
     @MockBean
@@ -0,0 +1,95 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ssafy.ssafyro.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class CachingAIResponseGeneratorTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AIFeedbackCache feedbackCache;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private MeterRegistry meterRegistry;
+    private CachingAIResponseGenerator cachingAIResponseGenerator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingAIResponseGenerator = new CachingAIResponseGenerator(aiResponseGenerator, feedbackCache, "1",
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedbackCache.clear();
+    }
+
+    @DisplayName("공백과 대소문자만 다른 같은 질문, 답변의 피드백은 모델을 다시 호출하지 않고 캐시에서 반환한다.")
+    @Test
+    void generateFeedbackByCacheTest() {
+        //given
+        given(aiResponseGenerator.generateFeedbackBy("자기소개 해주세요", "저는 Java 개발자입니다."))
+                .willReturn("피드백");
+        cachingAIResponseGenerator.generateFeedbackBy("자기소개 해주세요", "저는 Java 개발자입니다.");
+
+        //when
+        String feedback = cachingAIResponseGenerator.generateFeedbackBy("  자기소개  해주세요", "저는 java 개발자입니다. ");
+
+        //then
+        assertThat(feedback).isEqualTo("피드백");
+        verify(aiResponseGenerator, times(1)).generateFeedbackBy("자기소개 해주세요", "저는 Java 개발자입니다.");
+        assertThat(meterRegistry.get("ai.feedback-cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("ai.feedback-cache.requests").tag("result", "miss").counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("프롬프트 버전이 바뀌면 이전 버전의 캐시를 사용하지 않는다.")
+    @Test
+    void generateFeedbackByPromptVersionTest() {
+        //given
+        feedbackCache.put("0", "질문", "답변", "이전 피드백", Duration.ofSeconds(1));
+        given(aiResponseGenerator.generateFeedbackBy("질문", "답변"))
+                .willReturn("새 피드백");
+
+        //when
+        String feedback = cachingAIResponseGenerator.generateFeedbackBy("질문", "답변");
+
+        //then
+        assertThat(feedback).isEqualTo("새 피드백");
+    }
+
+    @DisplayName("캐시가 최대 크기를 넘으면 가장 오래된 피드백부터 지운다.")
+    @Test
+    void feedbackCacheEvictionTest() {
+        //given
+        AIFeedbackCache smallCache = new AIFeedbackCache(stringRedisTemplate, Duration.ofMinutes(1), 2);
+
+        //when
+        smallCache.put("1", "질문1", "답변", "피드백1", Duration.ofSeconds(1));
+        smallCache.put("1", "질문2", "답변", "피드백2", Duration.ofSeconds(1));
+        smallCache.put("1", "질문3", "답변", "피드백3", Duration.ofSeconds(1));
+
+        //then
+        assertThat(smallCache.size()).isEqualTo(2);
+        assertThat(Stream.of("질문1", "질문2", "질문3")
+                .filter(question -> smallCache.get("1", question, "답변").isPresent()))
+                .hasSize(2);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+
+class ChatGptResponseGeneratorTest {
+
+    private final ChatClient chatClient = mock(ChatClient.class, RETURNS_DEEP_STUBS);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatGptResponseGenerator chatGptResponseGenerator =
+            new ChatGptResponseGenerator(chatClient, meterRegistry);
+
+    @DisplayName("문장별 첨삭 응답을 나누지 못하면 빈 목록을 반환하고 형식 오류 횟수를 기록한다.")
+    @Test
+    void generateSentenceRevisionsWithMalformedResponseTest() {
+        //given
+        given(chatClient.prompt().user(anyString()).call().content()).willReturn("형식을 지키지 않은 응답");
+
+        //when
+        List<AiSentenceRevision> revisions = chatGptResponseGenerator.generateSentenceRevisions(
+                "질문", List.of("문장1.", "문장2."), List.of(1));
+
+        //then
+        assertThat(revisions).isEmpty();
+        assertThat(meterRegistry.get("ai.response.malformed")
+                .tag("operation", "essay-revision")
+                .counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EssayRevisionPromptTest {
+
+    @DisplayName("바뀐 문장과 앞뒤 문장만 프롬프트에 담는다.")
+    @Test
+    void createTest() {
+        //given
+        List<String> sentences = List.of("문장1.", "문장2.", "문장3.", "문장4.", "문장5.");
+
+        //when
+        String prompt = EssayRevisionPrompt.create("질문", sentences, List.of(3));
+
+        //then
+        assertThat(prompt).contains("(3) 문장3.\n[4] 문장4.\n(5) 문장5.");
+        assertThat(prompt).doesNotContain("문장1.", "문장2.");
+    }
+
+    @DisplayName("문장 번호로 나뉜 응답을 문장별 첨삭으로 나눈다.")
+    @Test
+    void parseTest() {
+        //given
+        String content = """
+                [2]
+                수정: 고친 문장2.
+                이유: 간결하게
+                [4]
+                수정: 문장4.
+                이유: 없음
+                """;
+
+        //when
+        Optional<List<AiSentenceRevision>> revisions = EssayRevisionPrompt.parse(content, List.of(1, 3));
+
+        //then
+        assertThat(revisions).hasValue(List.of(
+                new AiSentenceRevision(1, "고친 문장2.", "간결하게"),
+                new AiSentenceRevision(3, "문장4.", "없음")
+        ));
+    }
+
+    @DisplayName("요청한 문장 번호가 빠져 있으면 첨삭 목록을 만들지 않는다.")
+    @Test
+    void parseWithMissingSentenceTest() {
+        //given
+        String content = """
+                [2]
+                수정: 고친 문장2.
+                이유: 간결하게
+                """;
+
+        //when
+        Optional<List<AiSentenceRevision>> revisions = EssayRevisionPrompt.parse(content, List.of(1, 3));
+
+        //then
+        assertThat(revisions).isEmpty();
+    }
+
+    @DisplayName("응답의 문장 번호가 int 범위를 넘으면 예외 없이 첨삭 목록을 만들지 않는다.")
+    @Test
+    void parseWithOverflowingNumberTest() {
+        //given
+        String content = """
+                [99999999999]
+                수정: 고친 문장2.
+                이유: 간결하게
+                """;
+
+        //when
+        Optional<List<AiSentenceRevision>> revisions = EssayRevisionPrompt.parse(content, List.of(1));
+
+        //then
+        assertThat(revisions).isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedbackBatchPromptTest {
+
+    @DisplayName("질문 번호마다 하나의 프롬프트에 질문과 답변을 담는다.")
+    @Test
+    void createTest() {
+        //given
+        List<AiQuestionAnswer> questionAnswers = List.of(
+                new AiQuestionAnswer("질문1", "답변1"),
+                new AiQuestionAnswer("질문2", "답변2")
+        );
+
+        //when
+        String prompt = FeedbackBatchPrompt.create(questionAnswers);
+
+        //then
+        assertThat(prompt).contains("[1]\n질문: 질문1\n답변: 답변1", "[2]\n질문: 질문2\n답변: 답변2");
+    }
+
+    @DisplayName("질문 번호로 나뉜 응답을 답변 순서대로 피드백 목록으로 나눈다.")
+    @Test
+    void parseTest() {
+        //given
+        String content = """
+                [1]
+                첫 번째 피드백
+                [2]
+                두 번째 피드백
+                여러 줄 피드백
+                """;
+
+        //when
+        Optional<List<String>> feedbacks = FeedbackBatchPrompt.parse(content, 2);
+
+        //then
+        assertThat(feedbacks).contains(List.of("첫 번째 피드백", "두 번째 피드백\n여러 줄 피드백"));
+    }
+
+    @DisplayName("응답의 질문 번호가 요청한 개수와 다르면 나누지 않는다.")
+    @Test
+    void parseWithMissingFeedbackTest() {
+        //given
+        String content = """
+                [1]
+                첫 번째 피드백
+                """;
+
+        //when
+        Optional<List<String>> feedbacks = FeedbackBatchPrompt.parse(content, 2);
+
+        //then
+        assertThat(feedbacks).isEmpty();
+    }
+
+    @DisplayName("응답의 질문 번호가 int 범위를 넘으면 예외 없이 나누지 않는다.")
+    @Test
+    void parseWithOverflowingNumberTest() {
+        //given
+        String content = """
+                [99999999999]
+                첫 번째 피드백
+                """;
+
+        //when
+        Optional<List<String>> feedbacks = FeedbackBatchPrompt.parse(content, 1);
+
+        //then
+        assertThat(feedbacks).isEmpty();
+    }
+
+    @DisplayName("응답의 질문 번호가 순서대로가 아니면 나누지 않는다.")
+    @Test
+    void parseWithWrongOrderTest() {
+        //given
+        String content = """
+                [2]
+                두 번째 피드백
+                [1]
+                첫 번째 피드백
+                """;
+
+        //when
+        Optional<List<String>> feedbacks = FeedbackBatchPrompt.parse(content, 2);
+
+        //then
+        assertThat(feedbacks).isEmpty();
+    }
+}
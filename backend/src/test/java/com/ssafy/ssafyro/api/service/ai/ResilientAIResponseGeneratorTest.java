@@ -0,0 +1,181 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ssafy.ssafyro.error.ai.AIResponseUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+class ResilientAIResponseGeneratorTest {
+
+    private final AIResponseGenerator delegate = mock(AIResponseGenerator.class);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead streamBulkhead;
+    private ResilientAIResponseGenerator resilientAIResponseGenerator;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        streamBulkhead = Bulkhead.of("test-stream", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        AICallGuard guard = new AICallGuard(
+                circuitBreaker,
+                ThreadPoolBulkhead.ofDefaults("test"),
+                streamBulkhead,
+                TimeLimiter.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(100)).build()),
+                scheduler
+        );
+        resilientAIResponseGenerator = new ResilientAIResponseGenerator(delegate, guard, guard, guard, guard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @DisplayName("모델 응답이 타임아웃을 넘기면 응답을 기다리지 않고 실패한다.")
+    @Test
+    void generateFeedbackByTimeoutTest() {
+        //given
+        given(delegate.generateFeedbackBy("질문", "답변")).willAnswer(invocation -> {
+            Thread.sleep(1000);
+            return "피드백";
+        });
+
+        //when //then
+        assertThatThrownBy(() -> resilientAIResponseGenerator.generateFeedbackBy("질문", "답변"))
+                .isInstanceOf(AIResponseUnavailableException.class)
+                .hasRootCauseInstanceOf(TimeoutException.class);
+    }
+
+    @DisplayName("실패가 누적되어 서킷이 열리면 모델을 호출하지 않고 바로 실패한다.")
+    @Test
+    void generateFeedbackByCircuitOpenTest() {
+        //given
+        given(delegate.generateFeedbackBy("질문", "답변")).willThrow(new IllegalStateException("모델 오류"));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> resilientAIResponseGenerator.generateFeedbackBy("질문", "답변"))
+                    .isInstanceOf(AIResponseUnavailableException.class);
+        }
+
+        //when //then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> resilientAIResponseGenerator.generateFeedbackBy("질문", "답변"))
+                .isInstanceOf(AIResponseUnavailableException.class)
+                .hasRootCauseInstanceOf(CallNotPermittedException.class);
+        verify(delegate, times(2)).generateFeedbackBy("질문", "답변");
+    }
+
+    @DisplayName("모델을 사용할 수 없으면 설정한 대체 피드백을 반환하고 대체 횟수를 기록한다.")
+    @Test
+    void generateFeedbacksByFallbackTest() {
+        //given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AIResponseGenerator fallbackAIResponseGenerator = new FallbackAIResponseGenerator(
+                resilientAIResponseGenerator,
+                new CannedAIResponseGenerator("잠시 후 다시 확인해주세요."),
+                meterRegistry
+        );
+        List<AiQuestionAnswer> questionAnswers = List.of(
+                new AiQuestionAnswer("질문1", "답변1"),
+                new AiQuestionAnswer("질문2", "답변2")
+        );
+        given(delegate.generateFeedbacksBy(questionAnswers)).willThrow(new IllegalStateException("모델 오류"));
+
+        //when
+        List<String> feedbacks = fallbackAIResponseGenerator.generateFeedbacksBy(questionAnswers);
+
+        //then
+        assertThat(feedbacks).containsExactly("잠시 후 다시 확인해주세요.", "잠시 후 다시 확인해주세요.");
+        assertThat(meterRegistry.get("ai.fallback")
+                .tag("operation", "feedback-batch")
+                .tag("result", "success")
+                .counter().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("고정 문구로 대신할 수 없는 기사 생성은 대체 생성기가 있어도 실패한다.")
+    @Test
+    void generateArticleFallbackTest() {
+        //given
+        AIResponseGenerator fallbackAIResponseGenerator = new FallbackAIResponseGenerator(
+                resilientAIResponseGenerator,
+                new CannedAIResponseGenerator("잠시 후 다시 확인해주세요."),
+                new SimpleMeterRegistry()
+        );
+        given(delegate.generateArticle()).willThrow(new IllegalStateException("모델 오류"));
+
+        //when //then
+        assertThatThrownBy(fallbackAIResponseGenerator::generateArticle)
+                .isInstanceOf(AIResponseUnavailableException.class);
+    }
+
+    @DisplayName("스트리밍 첨삭은 조각이 계속 도착하면 타임아웃보다 오래 이어진다.")
+    @Test
+    void streamNewEssayLongerThanTimeoutTest() {
+        //given
+        given(delegate.streamNewEssay("질문", "내용")).willReturn(Flux.interval(Duration.ofMillis(20))
+                .map(String::valueOf)
+                .take(10));
+
+        //when
+        List<String> chunks = resilientAIResponseGenerator.streamNewEssay("질문", "내용")
+                .collectList()
+                .block();
+
+        //then
+        assertThat(chunks).hasSize(10);
+        assertThat(streamBulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @DisplayName("동시 스트림 수가 가득 차면 새 스트리밍 첨삭은 바로 실패하고, 스트림이 끝나면 자리가 돌아온다.")
+    @Test
+    void streamNewEssayBulkheadFullTest() {
+        //given
+        given(delegate.streamNewEssay("질문", "내용")).willReturn(Flux.interval(Duration.ofMillis(20))
+                .map(String::valueOf));
+        Disposable first = resilientAIResponseGenerator.streamNewEssay("질문", "내용").subscribe();
+
+        //when //then
+        assertThatThrownBy(() -> resilientAIResponseGenerator.streamNewEssay("질문", "내용").blockFirst())
+                .isInstanceOf(AIResponseUnavailableException.class)
+                .hasRootCauseInstanceOf(BulkheadFullException.class);
+
+        first.dispose();
+        assertThat(streamBulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+}
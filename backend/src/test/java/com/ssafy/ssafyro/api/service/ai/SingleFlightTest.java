@@ -0,0 +1,91 @@
+package com.ssafy.ssafyro.api.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+
+    @DisplayName("같은 키로 동시에 들어온 호출은 한 번만 실행하고 결과를 함께 받는다.")
+    @Test
+    void executeConcurrentlyTest() throws Exception {
+        //given
+        int callerCount = 5;
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(callerCount);
+
+        //when
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executorService.submit(() -> singleFlight.execute("roomId", () -> {
+            invocations.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "기사";
+        })));
+        started.await();
+
+        for (int i = 1; i < callerCount; i++) {
+            results.add(executorService.submit(() -> singleFlight.execute("roomId", () -> {
+                invocations.incrementAndGet();
+                return "다른 기사";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        //then
+        for (Future<String> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("기사");
+        }
+        assertThat(invocations).hasValue(1);
+        executorService.shutdown();
+    }
+
+    @DisplayName("실행이 끝난 뒤에 들어온 호출은 다시 실행한다.")
+    @Test
+    void executeSequentiallyTest() {
+        //given
+        AtomicInteger invocations = new AtomicInteger();
+
+        //when
+        singleFlight.execute("roomId", () -> "기사" + invocations.incrementAndGet());
+        String result = singleFlight.execute("roomId", () -> "기사" + invocations.incrementAndGet());
+
+        //then
+        assertThat(result).isEqualTo("기사2");
+    }
+
+    @DisplayName("실행 중 발생한 예외는 호출한 쪽에 그대로 전달한다.")
+    @Test
+    void executeWithExceptionTest() {
+        //when //then
+        assertThatThrownBy(() -> singleFlight.execute("roomId", () -> {
+            throw new IllegalStateException("AI 응답 실패");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("AI 응답 실패");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
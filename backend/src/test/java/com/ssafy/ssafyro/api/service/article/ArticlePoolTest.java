@@ -0,0 +1,117 @@
+package com.ssafy.ssafyro.api.service.article;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.ssafy.ssafyro.IntegrationTestSupport;
+import com.ssafy.ssafyro.api.service.ai.AiArticle;
+import com.ssafy.ssafyro.domain.article.Article;
+import com.ssafy.ssafyro.domain.article.ArticleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class ArticlePoolTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ArticlePool articlePool;
+
+    @BeforeEach
+    void setUp() {
+        articlePool = new ArticlePool(aiResponseGenerator, articleRepository, stringRedisTemplate,
+                new SimpleMeterRegistry(), 2, 1, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        articlePool.shutdown();
+        articlePool.clear();
+        articleRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("기사 풀을 목표 개수까지 채운다.")
+    @Test
+    void refillTest() {
+        //given
+        given(aiResponseGenerator.generateArticle())
+                .willReturn(new AiArticle("기사 제목", "기사 내용", List.of("질문1", "질문2")));
+
+        //when
+        articlePool.refill();
+
+        //then
+        assertThat(articlePool.currentDepth()).isEqualTo(2);
+        assertThat(articleRepository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("다른 노드가 채우는 중이면 기사를 만들지 않는다.")
+    @Test
+    void refillWhileLockedTest() {
+        //given
+        stringRedisTemplate.opsForValue().set("article:pool:refill-lock", "other-node", Duration.ofMinutes(1));
+
+        //when
+        articlePool.refill();
+
+        //then
+        assertThat(articlePool.currentDepth()).isZero();
+        assertThat(articleRepository.count()).isZero();
+    }
+
+    @DisplayName("락을 잡은 뒤 목표 개수에서 부족한 만큼만 채우고 락을 푼다.")
+    @Test
+    void refillOnlyMissingTest() {
+        //given
+        given(aiResponseGenerator.generateArticle())
+                .willReturn(new AiArticle("기사 제목", "기사 내용", List.of("질문1", "질문2")));
+        stringRedisTemplate.opsForList().rightPush("article:pool", "0");
+
+        //when
+        articlePool.refill();
+
+        //then
+        assertThat(articlePool.currentDepth()).isEqualTo(2);
+        assertThat(articleRepository.count()).isEqualTo(1);
+        assertThat(stringRedisTemplate.hasKey("article:pool:refill-lock")).isFalse();
+    }
+
+    @DisplayName("풀에서 미리 생성된 기사를 꺼낸다.")
+    @Test
+    void takeTest() {
+        //given
+        given(aiResponseGenerator.generateArticle())
+                .willReturn(new AiArticle("기사 제목", "기사 내용", List.of("질문1", "질문2")));
+        articlePool.refill();
+
+        //when
+        Optional<Article> article = articlePool.take();
+
+        //then
+        assertThat(article).isPresent()
+                .get()
+                .extracting("title")
+                .isEqualTo("기사 제목");
+    }
+
+    @DisplayName("풀이 비어 있으면 기사를 꺼내지 못한다.")
+    @Test
+    void takeFromEmptyPoolTest() {
+        //when
+        Optional<Article> article = articlePool.take();
+
+        //then
+        assertThat(article).isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.ssafyro.api.service.essay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.ssafy.ssafyro.api.service.essay.response.EssayReviewStreamResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EssayReviewStreamParserTest {
+
+    @DisplayName("구분자가 여러 조각에 나뉘어 와도 구역을 순서대로 잘라낸다.")
+    @Test
+    void appendTest() {
+        //given
+        EssayReviewStreamParser parser = new EssayReviewStreamParser();
+        List<String> tokens = List.of(
+                "newcontent:\n첨삭된 ", "에세이\n%", "%%\nchanged:\n- 수정 전 → 수정 후 (이유)\n%%",
+                "%\ntotalfeedback:\n", "좋습니다."
+        );
+
+        //when
+        List<EssayReviewStreamResponse> responses = new ArrayList<>();
+        tokens.forEach(token -> responses.addAll(parser.append(token)));
+        responses.addAll(parser.finish());
+
+        //then
+        assertThat(responses)
+                .filteredOn(response -> EssayReviewStreamResponse.SECTION.equals(response.type()))
+                .extracting("section", "content")
+                .containsExactly(
+                        tuple("newcontent", "첨삭된 에세이"),
+                        tuple("changed", "- 수정 전 → 수정 후 (이유)"),
+                        tuple("totalfeedback", "좋습니다.")
+                );
+    }
+
+    @DisplayName("받은 응답 조각은 바로 현재 구역의 토큰으로 전달한다.")
+    @Test
+    void appendTokenTest() {
+        //given
+        EssayReviewStreamParser parser = new EssayReviewStreamParser();
+
+        //when
+        List<EssayReviewStreamResponse> responses = parser.append("첨삭된");
+
+        //then
+        assertThat(responses)
+                .extracting("type", "section", "content")
+                .containsExactly(tuple(EssayReviewStreamResponse.TOKEN, "newcontent", "첨삭된"));
+    }
+}
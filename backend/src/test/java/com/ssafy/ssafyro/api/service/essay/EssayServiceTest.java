@@ -3,8 +3,12 @@ package com.ssafy.ssafyro.api.service.essay;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.ssafy.ssafyro.IntegrationTestSupport;
+import com.ssafy.ssafyro.api.service.ai.AiSentenceRevision;
 import com.ssafy.ssafyro.api.service.essay.request.EssayReviewServiceRequest;
 import com.ssafy.ssafyro.api.service.essay.request.EssaySaveServiceRequest;
 import com.ssafy.ssafyro.api.service.essay.response.EssayDetailResponse;
@@ -18,6 +22,8 @@ import com.ssafy.ssafyro.domain.essayquestion.EssayQuestion;
 import com.ssafy.ssafyro.domain.essayquestion.EssayQuestionRepository;
 import com.ssafy.ssafyro.domain.user.User;
 import com.ssafy.ssafyro.domain.user.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +44,14 @@ class EssayServiceTest extends IntegrationTestSupport {
     @Autowired
     private EssayQuestionRepository essayQuestionRepository;
 
+    @Autowired
+    private EssayReviewCache essayReviewCache;
+
+    @AfterEach
+    void tearDown() {
+        essayReviewCache.clear();
+    }
+
     @DisplayName("ChatGPT API를 활용하여 에세이를 첨삭받는다.")
     @Test
     void reviewEssayTest() {
@@ -45,6 +59,7 @@ class EssayServiceTest extends IntegrationTestSupport {
         given(aiResponseGenerator.generateNewEssay(any(String.class), any(String.class)))
                 .willReturn("첨삭 후 에세이");
 
+        User user = userRepository.save(createUser());
         EssayQuestion essayQuestion = essayQuestionRepository.save(createEssayQuestion());
 
         EssayReviewServiceRequest essayReviewServiceRequest = new EssayReviewServiceRequest(
@@ -53,12 +68,92 @@ class EssayServiceTest extends IntegrationTestSupport {
         );
 
         //when
-        EssayReviewResponse response = essayService.reviewEssay(essayReviewServiceRequest);
+        EssayReviewResponse response = essayService.reviewEssay(user.getId(), essayReviewServiceRequest);
 
         //then
         assertThat(response.content()).isEqualTo("첨삭 후 에세이");
     }
 
+    @DisplayName("공백만 다른 같은 에세이를 다시 첨삭하면 모델을 호출하지 않고 캐시된 결과를 반환한다.")
+    @Test
+    void reviewEssayCacheTest() {
+        //given
+        given(aiResponseGenerator.generateNewEssay("에세이 질문", "첨삭 전 에세이"))
+                .willReturn("첨삭 후 에세이");
+
+        User user = userRepository.save(createUser());
+        EssayQuestion essayQuestion = essayQuestionRepository.save(createEssayQuestion());
+        essayService.reviewEssay(user.getId(), new EssayReviewServiceRequest(essayQuestion.getId(), "첨삭 전 에세이"));
+
+        //when
+        EssayReviewResponse response = essayService.reviewEssay(
+                user.getId(),
+                new EssayReviewServiceRequest(essayQuestion.getId(), "  첨삭 전   에세이 ")
+        );
+
+        //then
+        assertThat(response.content()).isEqualTo("첨삭 후 에세이");
+        verify(aiResponseGenerator, times(1)).generateNewEssay("에세이 질문", "첨삭 전 에세이");
+    }
+
+    @DisplayName("에세이 질문이 다르면 같은 에세이라도 다시 첨삭받는다.")
+    @Test
+    void reviewEssayCacheByQuestionTest() {
+        //given
+        User user = userRepository.save(createUser());
+        EssayQuestion essayQuestion = essayQuestionRepository.save(createEssayQuestion());
+        EssayQuestion otherEssayQuestion = essayQuestionRepository.save(createEssayQuestion());
+
+        given(aiResponseGenerator.generateNewEssay("에세이 질문", "첨삭 전 에세이"))
+                .willReturn("첫 번째 첨삭", "두 번째 첨삭");
+        essayService.reviewEssay(user.getId(), new EssayReviewServiceRequest(essayQuestion.getId(), "첨삭 전 에세이"));
+
+        //when
+        EssayReviewResponse response = essayService.reviewEssay(
+                user.getId(),
+                new EssayReviewServiceRequest(otherEssayQuestion.getId(), "첨삭 전 에세이")
+        );
+
+        //then
+        assertThat(response.content()).isEqualTo("두 번째 첨삭");
+    }
+
+    @DisplayName("이전에 첨삭받은 에세이에서 바뀐 문장만 첨삭받아 이전 첨삭 결과와 합친다.")
+    @Test
+    void reviewEssayIncrementallyTest() {
+        //given
+        User user = userRepository.save(createUser());
+        EssayQuestion essayQuestion = essayQuestionRepository.save(createEssayQuestion());
+        Essay essay = essayRepository.save(createEssay(user, essayQuestion));
+        essay.recordReview(
+                "첫 문장입니다. 둘째 문장입니다. 셋째 문장입니다.",
+                "newcontent:\n첫 문장. 둘째 문장. 셋째 문장.\n%%%\n"
+                        + "changed:\n- 첫 문장입니다. → 첫 문장. (간결하게)\n%%%\n"
+                        + "totalfeedback:\n좋습니다."
+        );
+
+        given(aiResponseGenerator.generateSentenceRevisions(
+                "에세이 질문",
+                List.of("첫 문장입니다.", "바뀐 문장입니다.", "셋째 문장입니다."),
+                List.of(1)
+        )).willReturn(List.of(new AiSentenceRevision(1, "바뀐 문장.", "간결하게")));
+
+        //when
+        EssayReviewResponse response = essayService.reviewEssay(
+                user.getId(),
+                new EssayReviewServiceRequest(essayQuestion.getId(), "첫 문장입니다. 바뀐 문장입니다. 셋째 문장입니다.")
+        );
+
+        //then
+        assertThat(response.content()).isEqualTo(
+                "newcontent:\n첫 문장. 바뀐 문장. 셋째 문장.\n%%%\n"
+                        + "changed:\n- 첫 문장입니다. → 첫 문장. (간결하게)\n- 바뀐 문장입니다. → 바뀐 문장. (간결하게)\n%%%\n"
+                        + "totalfeedback:\n좋습니다."
+        );
+        assertThat(essay.getReviewedContent()).isEqualTo("첫 문장입니다. 바뀐 문장입니다. 셋째 문장입니다.");
+        verify(aiResponseGenerator, never()).generateNewEssay(any(String.class), any(String.class));
+    }
+
     @DisplayName("에세이를 저장한다.")
     @Test
     void createEssayTest() {
@@ -0,0 +1,94 @@
+package com.ssafy.ssafyro.api.service.essay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.ssafyro.api.service.ai.AiSentenceRevision;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IncrementalEssayReviewTest {
+
+    private static final String REVIEWED_CONTENT = "문장1입니다. 문장2입니다. 문장3입니다. 문장4입니다.";
+    private static final String REVIEW = """
+            newcontent:
+            문장1. 문장2. 문장3. 문장4.
+            %%%
+            changed:
+            - 문장1입니다. → 문장1. (간결하게)
+            - 문장2입니다. → 문장2. (간결하게)
+            %%%
+            totalfeedback:
+            전체 피드백""";
+
+    @DisplayName("이전에 첨삭받은 에세이와 비교해 바뀐 문장의 위치를 찾는다.")
+    @Test
+    void changedIndexesTest() {
+        //when
+        Optional<IncrementalEssayReview> review = IncrementalEssayReview.of(
+                REVIEWED_CONTENT, REVIEW, "문장1입니다. 새 문장입니다. 문장3입니다. 문장4입니다."
+        );
+
+        //then
+        assertThat(review).isPresent();
+        assertThat(review.get().changedIndexes()).containsExactly(1);
+    }
+
+    @DisplayName("바뀐 문장의 첨삭을 남아 있는 이전 첨삭 결과와 합치고 사라진 문장의 수정 사항은 지운다.")
+    @Test
+    void mergeTest() {
+        //given
+        IncrementalEssayReview review = IncrementalEssayReview.of(
+                REVIEWED_CONTENT, REVIEW, "문장1입니다. 새 문장입니다. 문장3입니다. 문장4입니다."
+        ).orElseThrow();
+
+        //when
+        String merged = review.merge(List.of(new AiSentenceRevision(1, "새 문장.", "간결하게")));
+
+        //then
+        assertThat(merged).isEqualTo("""
+                newcontent:
+                문장1. 새 문장. 문장3. 문장4.
+                %%%
+                changed:
+                - 문장1입니다. → 문장1. (간결하게)
+                - 새 문장입니다. → 새 문장. (간결하게)
+                %%%
+                totalfeedback:
+                전체 피드백""");
+    }
+
+    @DisplayName("첨삭 결과를 합칠 때 새 에세이의 문단 구분을 그대로 유지한다.")
+    @Test
+    void mergeKeepingParagraphsTest() {
+        //given
+        IncrementalEssayReview review = IncrementalEssayReview.of(
+                REVIEWED_CONTENT, REVIEW, "문장1입니다. 새 문장입니다.\n\n문장3입니다.\n문장4입니다."
+        ).orElseThrow();
+
+        //when
+        String merged = review.merge(List.of(new AiSentenceRevision(1, "새 문장.", "간결하게")));
+
+        //then
+        assertThat(merged).startsWith("""
+                newcontent:
+                문장1. 새 문장.
+
+                문장3.
+                문장4.
+                %%%""");
+    }
+
+    @DisplayName("문장이 절반 넘게 바뀌면 부분 첨삭을 하지 않는다.")
+    @Test
+    void mostlyChangedTest() {
+        //when
+        Optional<IncrementalEssayReview> review = IncrementalEssayReview.of(
+                REVIEWED_CONTENT, REVIEW, "새 문장1. 새 문장2. 새 문장3. 문장4입니다."
+        );
+
+        //then
+        assertThat(review).isEmpty();
+    }
+}
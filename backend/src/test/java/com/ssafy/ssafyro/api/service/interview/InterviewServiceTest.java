@@ -2,13 +2,21 @@ package com.ssafy.ssafyro.api.service.interview;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.ssafy.ssafyro.IntegrationTestSupport;
+import com.ssafy.ssafyro.api.service.ai.AiArticle;
+import com.ssafy.ssafyro.api.service.interview.response.ArticleResponse;
+import com.ssafy.ssafyro.domain.article.ArticleRepository;
 import com.ssafy.ssafyro.domain.room.RoomStatus;
 import com.ssafy.ssafyro.domain.room.RoomType;
+import com.ssafy.ssafyro.domain.room.redis.RoomArticleRedisRepository;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedisRepository;
 import com.ssafy.ssafyro.error.room.RoomNotFoundException;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,8 +35,16 @@ class InterviewServiceTest extends IntegrationTestSupport {
     @Autowired
     private RedisTemplate<String, RoomRedis> redisTemplate;
 
+    @Autowired
+    private RoomArticleRedisRepository roomArticleRedisRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
     @AfterEach
     void tearDown() {
+        articleRepository.deleteAllInBatch();
+
         Set<String> keys = redisTemplate.keys("room:*");
 
         if (keys == null || keys.isEmpty()) {
@@ -69,6 +85,45 @@ class InterviewServiceTest extends IntegrationTestSupport {
                 .isInstanceOf(RoomNotFoundException.class);
     }
 
+    @DisplayName("PT 면접 방에 처음 기사를 요청하면 기사를 생성해 방에 배정하고, 이후에는 같은 기사를 반환한다.")
+    @Test
+    void getArticle() {
+        // given
+        RoomRedis room = createRoom();
+        roomRedisRepository.save(room);
+
+        given(aiResponseGenerator.generateArticle())
+                .willReturn(new AiArticle("기사 제목", "기사 내용", List.of("질문1", "질문2")));
+
+        ArticleResponse first = interviewService.getArticle(room.getId());
+
+        // when
+        ArticleResponse second = interviewService.getArticle(room.getId());
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(roomArticleRedisRepository.findArticleIdBy(room.getId())).contains(first.id());
+        verify(aiResponseGenerator, times(1)).generateArticle();
+    }
+
+    @DisplayName("방이 삭제되면 배정된 기사도 함께 삭제된다.")
+    @Test
+    void getArticleAfterRoomDeleted() {
+        // given
+        RoomRedis room = createRoom();
+        roomRedisRepository.save(room);
+
+        given(aiResponseGenerator.generateArticle())
+                .willReturn(new AiArticle("기사 제목", "기사 내용", List.of("질문1", "질문2")));
+        interviewService.getArticle(room.getId());
+
+        // when
+        roomRedisRepository.delete(room);
+
+        // then
+        assertThat(roomArticleRedisRepository.findArticleIdBy(room.getId())).isEmpty();
+    }
+
     private RoomRedis createRoom() {
         return RoomRedis.builder()
                 .title("Test Room")
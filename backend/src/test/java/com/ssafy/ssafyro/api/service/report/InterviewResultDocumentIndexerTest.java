@@ -0,0 +1,105 @@
+package com.ssafy.ssafyro.api.service.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ssafy.ssafyro.domain.interviewresult.InterviewResultDocument;
+import com.ssafy.ssafyro.domain.interviewresult.InterviewResultDocumentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InterviewResultDocumentIndexerTest {
+
+    private final InterviewResultDocumentRepository repository = mock(InterviewResultDocumentRepository.class);
+
+    private MeterRegistry meterRegistry;
+    private InterviewResultDocumentIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        indexer = new InterviewResultDocumentIndexer(repository, meterRegistry, 5, 3, Duration.ofMillis(100), 1);
+        indexer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexer.shutdown();
+    }
+
+    @DisplayName("여러 레포트의 문서를 모아 배치 크기만큼 한 번에 색인한다.")
+    @Test
+    void enqueueBatchTest() {
+        //given
+        indexer.enqueue(createDocuments(2));
+
+        //when
+        indexer.enqueue(createDocuments(2));
+
+        //then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(indexedCount()).isEqualTo(4));
+        verify(repository, times(2)).saveAll(anyList());
+    }
+
+    @DisplayName("큐가 가득 차면 넘치는 문서는 버린다.")
+    @Test
+    void enqueueWhenQueueFullTest() {
+        //given
+        given(repository.saveAll(anyList())).willAnswer(invocation -> {
+            Thread.sleep(500);
+            return invocation.getArgument(0);
+        });
+        indexer.enqueue(createDocuments(1));
+
+        verify(repository, timeout(1000)).saveAll(anyList());
+
+        //when
+        int accepted = indexer.enqueue(createDocuments(7));
+
+        //then
+        assertThat(accepted).isEqualTo(5);
+        assertThat(meterRegistry.get("report.indexer.documents").tag("result", "dropped").counter().count())
+                .isEqualTo(2);
+    }
+
+    @DisplayName("색인에 실패하면 다시 시도한다.")
+    @Test
+    void indexRetryTest() {
+        //given
+        given(repository.saveAll(anyList()))
+                .willThrow(new IllegalStateException("색인 실패"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        indexer.enqueue(createDocuments(1));
+
+        //then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(indexedCount()).isEqualTo(1));
+        verify(repository, times(2)).saveAll(anyList());
+    }
+
+    private double indexedCount() {
+        return meterRegistry.get("report.indexer.documents").tag("result", "indexed").counter().count();
+    }
+
+    private List<InterviewResultDocument> createDocuments(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> mock(InterviewResultDocument.class))
+                .toList();
+    }
+}
@@ -0,0 +1,72 @@
+package com.ssafy.ssafyro.api.service.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KoMorAnAnalyzerPoolTest {
+
+    private MeterRegistry meterRegistry;
+    private KoMorAnAnalyzerPool analyzerPool;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        analyzerPool = new KoMorAnAnalyzerPool(meterRegistry, 2, Duration.ofMinutes(1));
+        analyzerPool.warmUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        analyzerPool.shutdown();
+    }
+
+    @DisplayName("분석기보다 많은 요청이 동시에 들어와도 분석기를 나눠 쓰며 모두 명사를 추출한다.")
+    @Test
+    void extractNounsConcurrentlyTest() {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        //when
+        List<List<String>> results = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(
+                        () -> analyzerPool.extractNouns("문장은 생각이나 감정을 말로 표현하는 단위이다"),
+                        executorService
+                ))
+                .toList()
+                .stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        //then
+        assertThat(results).hasSize(8)
+                .allSatisfy(nouns -> assertThat(nouns).contains("문장", "생각", "감정", "표현", "단위"));
+        assertThat(meterRegistry.get("komoran.pool.acquire").timer().count()).isEqualTo(8);
+        assertThat(meterRegistry.get("komoran.analyze").timer().count()).isEqualTo(8);
+        await().atMost(Duration.ofMinutes(1))
+                .untilAsserted(() -> assertThat(meterRegistry.get("komoran.pool.available").gauge().value())
+                        .isEqualTo(2));
+        executorService.shutdown();
+    }
+
+    @DisplayName("풀 크기가 양수가 아니면 분석기 풀을 만들지 않는다.")
+    @Test
+    void createWithInvalidSizeTest() {
+        //when //then
+        assertThatThrownBy(() -> new KoMorAnAnalyzerPool(meterRegistry, 0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
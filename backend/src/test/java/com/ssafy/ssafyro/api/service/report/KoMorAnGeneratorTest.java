@@ -1,12 +1,22 @@
 package com.ssafy.ssafyro.api.service.report;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.ssafy.ssafyro.IntegrationTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 
 class KoMorAnGeneratorTest extends IntegrationTestSupport {
 
@@ -27,4 +37,38 @@ class KoMorAnGeneratorTest extends IntegrationTestSupport {
                 .contains("문장", "생각", "감정", "말", "표현", "때", "완결", "내용", "최소", "단위");
     }
 
+    @DisplayName("같은 질문의 태그는 한 번만 분석하고 이후에는 캐시에서 반환한다.")
+    @Test
+    void createQuestionTagsCacheTest() {
+        //given
+        KoMorAnAnalyzerPool analyzerPool = mock(KoMorAnAnalyzerPool.class);
+        given(analyzerPool.extractNouns("자기소개 해주세요")).willReturn(List.of("자기", "소개"));
+        KoMorAnGenerator generator = new KoMorAnGenerator(analyzerPool, new SimpleMeterRegistry(), 10, null);
+        generator.createQuestionTags("자기소개 해주세요");
+
+        //when
+        List<String> tags = generator.createQuestionTags("  자기소개   해주세요 ");
+
+        //then
+        assertThat(tags).containsExactly("자기", "소개");
+        verify(analyzerPool, times(1)).extractNouns(any(String.class));
+    }
+
+    @DisplayName("미리 계산해 둔 태그 표에 있는 질문은 분석하지 않는다.")
+    @Test
+    void createQuestionTagsWithKnownTagsTest() {
+        //given
+        KoMorAnAnalyzerPool analyzerPool = mock(KoMorAnAnalyzerPool.class);
+        Resource knownTags = new ByteArrayResource(
+                "# 질문\t태그\n자기소개 해주세요\t자기, 소개\n".getBytes(StandardCharsets.UTF_8)
+        );
+        KoMorAnGenerator generator = new KoMorAnGenerator(analyzerPool, new SimpleMeterRegistry(), 10, knownTags);
+
+        //when
+        List<String> tags = generator.createQuestionTags("자기소개 해주세요");
+
+        //then
+        assertThat(tags).containsExactly("자기", "소개");
+        verify(analyzerPool, never()).extractNouns(any(String.class));
+    }
 }
\ No newline at end of file
@@ -8,7 +8,8 @@ import static com.ssafy.ssafyro.domain.room.RoomType.PRESENTATION;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.BDDAssertions.tuple;
-import static org.mockito.ArgumentMatchers.any;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 
 import com.ssafy.ssafyro.IntegrationTestSupport;
@@ -34,19 +35,25 @@ import com.ssafy.ssafyro.domain.report.PersonalityInterviewReport;
 import com.ssafy.ssafyro.domain.report.PresentationInterviewReport;
 import com.ssafy.ssafyro.domain.report.Report;
 import com.ssafy.ssafyro.domain.report.ReportRepository;
+import com.ssafy.ssafyro.domain.report.ReportStatus;
 import com.ssafy.ssafyro.domain.room.RoomType;
 import com.ssafy.ssafyro.domain.room.entity.Room;
 import com.ssafy.ssafyro.domain.room.entity.RoomRepository;
 import com.ssafy.ssafyro.domain.user.User;
 import com.ssafy.ssafyro.domain.user.UserRepository;
 import com.ssafy.ssafyro.error.report.ReportNotFoundException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 class ReportServiceTest extends IntegrationTestSupport {
 
@@ -74,6 +81,10 @@ class ReportServiceTest extends IntegrationTestSupport {
     @Autowired
     private InterviewResultDocumentRepository interviewResultDocumentRepository;
 
+    @Autowired
+    @Qualifier("reportJobExecutor")
+    private ThreadPoolTaskExecutor reportJobExecutor;
+
     @AfterEach
     void tearDown() {
         interviewResultRepository.deleteAllInBatch();
@@ -116,6 +127,43 @@ class ReportServiceTest extends IntegrationTestSupport {
                         tuple(reports.get(2).getTotalScore(), reports.get(2).getPronunciationScore()));
     }
 
+    @DisplayName("면접 레포트 목록에는 생성이 끝난 레포트만 보인다.")
+    @Test
+    void getReportsOnlyDone() {
+        // given
+        User user = createUser();
+        userRepository.save(user);
+
+        Room room1 = createRoom(PERSONALITY, 1);
+        Room room2 = createRoom(PERSONALITY, 2);
+        Room room3 = createRoom(PERSONALITY, 3);
+        roomRepository.saveAll(List.of(room1, room2, room3));
+
+        Report done = createReportPersonal(user, 90, room1);
+        Report pending = PersonalityInterviewReport.builder()
+                .user(user)
+                .room(room2)
+                .totalScore(92)
+                .pronunciationScore(3)
+                .build();
+        Report failed = PersonalityInterviewReport.builder()
+                .user(user)
+                .room(room3)
+                .totalScore(95)
+                .pronunciationScore(3)
+                .build();
+        failed.fail();
+        reportRepository.saveAll(List.of(done, pending, failed));
+
+        // when
+        ReportsResponse response = reportService.getReports(user.getId(), Pageable.unpaged());
+
+        // then
+        assertThat(response.reports()).hasSize(1)
+                .extracting("totalScore")
+                .containsExactly(90);
+    }
+
     @DisplayName("인성면접 레포트 상세내용을 조회한다. 상세내용은 각 질문과 답변 및 피드백이 있다.")
     @Test
     void getReportPersonal() {
@@ -188,7 +236,7 @@ class ReportServiceTest extends IntegrationTestSupport {
                         interviewResult3.getQuestion());
     }
 
-    @DisplayName("면접을 종료하고 면접 내용에 대한 레포트를 작성한다.")
+    @DisplayName("면접을 종료하면 생성 중인 레포트를 저장하고, 면접 내용에 대한 결과는 비동기로 작성한다.")
     @Test
     void createReport() {
         // given
@@ -202,31 +250,107 @@ class ReportServiceTest extends IntegrationTestSupport {
         articleRepository.save(article);
 
         InterviewRedis interviewRedis1 = createInterview(user.getId(), 1);
-        interviewRedisRepository.save(interviewRedis1);
+        interviewRedisRepository.save(room.getId(), interviewRedis1);
 
         InterviewRedis interviewRedis2 = createInterview(user.getId(), 2);
-        interviewRedisRepository.save(interviewRedis2);
+        interviewRedisRepository.save(room.getId(), interviewRedis2);
 
         ReportCreateServiceRequest request = new ReportCreateServiceRequest(
                 room.getId(), article.getId(), user.getId(), 100);
 
-        given(aiResponseGenerator.generateFeedbackBy(any(String.class), any(String.class)))
-                .willReturn("피드백");
+        given(aiResponseGenerator.generateFeedbacksBy(anyList()))
+                .willAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                        .map(questionAnswer -> "피드백")
+                        .toList());
 
         // when
         ReportCreateResponse response = reportService.createReport(request);
-        Report report = reportRepository.findById(response.reportId()).get();
 
         // then
         assertThat(response).isNotNull()
-                .extracting("userId", "reportId")
-                .containsExactly(user.getId(), report.getId());
+                .extracting("userId", "status")
+                .containsExactly(user.getId(), ReportStatus.PENDING);
 
-        assertThat(interviewResultDocumentRepository.findTop5ByUserIdOrderByEvaluationScore(user.getId())).isNotNull()
-                .extracting("userId", "question", "answer")
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> reportService.getReportStatus(response.reportId()).status() == ReportStatus.DONE);
+
+        assertThat(interviewResultRepository.findByReportId(response.reportId()))
+                .extracting("question", "answer", "feedback")
                 .containsExactlyInAnyOrder(
-                        tuple(user.getId(), "질문1", "답변1"),
-                        tuple(user.getId(), "질문2", "답변2"));
+                        tuple("질문1", "답변1", "피드백"),
+                        tuple("질문2", "답변2", "피드백"));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(
+                        interviewResultDocumentRepository.findTop5ByUserIdOrderByEvaluationScore(user.getId()))
+                        .extracting("userId", "question", "answer")
+                        .containsExactlyInAnyOrder(
+                                tuple(user.getId(), "질문1", "답변1"),
+                                tuple(user.getId(), "질문2", "답변2")));
+
+        assertThat(interviewRedisRepository.findByUserId(room.getId(), user.getId())).isEmpty();
+    }
+
+    @DisplayName("피드백 생성에 실패하면 레포트를 실패 상태로 바꾸고 면접 내용은 남겨둔다.")
+    @Test
+    void createReportWithFeedbackFailure() {
+        // given
+        User user = createUser();
+        userRepository.save(user);
+
+        Room room = createRoom(PERSONALITY, 1);
+        roomRepository.save(room);
+
+        interviewRedisRepository.save(room.getId(), createInterview(user.getId(), 1));
+
+        ReportCreateServiceRequest request = new ReportCreateServiceRequest(
+                room.getId(), null, user.getId(), 100);
+
+        given(aiResponseGenerator.generateFeedbacksBy(anyList()))
+                .willThrow(new IllegalStateException("AI 응답 실패"));
+
+        // when
+        ReportCreateResponse response = reportService.createReport(request);
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> reportService.getReportStatus(response.reportId()).status() == ReportStatus.FAILED);
+
+        assertThat(interviewResultRepository.findByReportId(response.reportId())).isEmpty();
+        assertThat(interviewRedisRepository.findByUserId(room.getId(), user.getId())).hasSize(1);
+    }
+
+    @DisplayName("레포트 생성 작업 큐가 가득 차면 레포트를 실패 상태로 저장한다.")
+    @Test
+    void createReportWithFullJobQueue() {
+        // given
+        User user = createUser();
+        userRepository.save(user);
+
+        Room room = createRoom(PERSONALITY, 1);
+        roomRepository.save(room);
+
+        interviewRedisRepository.save(room.getId(), createInterview(user.getId(), 1));
+
+        ReportCreateServiceRequest request = new ReportCreateServiceRequest(
+                room.getId(), null, user.getId(), 100);
+
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            fillJobQueue(release);
+
+            // when
+            ReportCreateResponse response = reportService.createReport(request);
+
+            // then
+            assertThat(reportRepository.findById(response.reportId()))
+                    .get()
+                    .extracting(Report::getStatus)
+                    .isEqualTo(ReportStatus.FAILED);
+            assertThat(interviewRedisRepository.findByUserId(room.getId(), user.getId())).hasSize(1);
+        } finally {
+            release.countDown();
+        }
     }
 
     @DisplayName("사용자의 전체 레포트의 평균 점수를 구한다. 감정은 상위 3개만 반환한다.")
@@ -402,6 +526,22 @@ class ReportServiceTest extends IntegrationTestSupport {
                 );
     }
 
+    // 작업 스레드와 큐를 모두 막아 다음 작업이 거절되게 한다.
+    private void fillJobQueue(CountDownLatch release) {
+        try {
+            while (true) {
+                reportJobExecutor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        } catch (TaskRejectedException ignored) {
+        }
+    }
+
     private User createUser() {
         return User.builder()
                 .username("enduf768640@gmail.com")
@@ -413,22 +553,26 @@ class ReportServiceTest extends IntegrationTestSupport {
     }
 
     private Report createReportPersonal(User user, int totalScore, Room room) {
-        return PersonalityInterviewReport.builder()
+        Report report = PersonalityInterviewReport.builder()
                 .user(user)
                 .room(room)
                 .totalScore(totalScore)
                 .pronunciationScore(3)
                 .build();
+        report.complete();
+        return report;
     }
 
     private Report createReportPresentation(User user, int totalScore, Room room, Article article) {
-        return PresentationInterviewReport.builder()
+        Report report = PresentationInterviewReport.builder()
                 .user(user)
                 .room(room)
                 .totalScore(totalScore)
                 .pronunciationScore(3)
                 .article(article)
                 .build();
+        report.complete();
+        return report;
     }
 
     private Article createArticle() {
@@ -0,0 +1,99 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomCandidatePoolTest {
+
+    private static final long RESERVATION_MILLIS = 10_000L;
+
+    @DisplayName("가장 많이 찬 방을, 같은 인원이면 먼저 만들어진 방을 먼저 배정한다.")
+    @Test
+    void reserveBestRoom() {
+        // given
+        RoomCandidatePool pool = new RoomCandidatePool(RESERVATION_MILLIS);
+        pool.register("old", 4, 1L, 1);
+        pool.register("new", 4, 2L, 1);
+        pool.register("crowded", 4, 3L, 2);
+
+        // when // then
+        assertThat(pool.reserve(0L)).contains("crowded");
+        assertThat(pool.reserve(0L)).contains("crowded");
+        assertThat(pool.reserve(0L)).contains("old");
+    }
+
+    @DisplayName("예약으로 자리가 모두 찬 방은 배정하지 않는다.")
+    @Test
+    void reserveFullRoom() {
+        // given
+        RoomCandidatePool pool = new RoomCandidatePool(RESERVATION_MILLIS);
+        pool.register("room", 2, 1L, 1);
+
+        // when
+        pool.reserve(0L);
+
+        // then
+        assertThat(pool.reserve(0L)).isEmpty();
+    }
+
+    @DisplayName("예약이 만료되면 자리가 다시 배정된다.")
+    @Test
+    void reserveAfterReservationExpired() {
+        // given
+        RoomCandidatePool pool = new RoomCandidatePool(RESERVATION_MILLIS);
+        pool.register("room", 2, 1L, 1);
+        pool.reserve(0L);
+
+        // when // then
+        assertThat(pool.reserve(RESERVATION_MILLIS)).contains("room");
+    }
+
+    @DisplayName("전달되지 않은 예약을 되돌리면 자리가 바로 다시 배정된다.")
+    @Test
+    void reserveAfterReleased() {
+        // given
+        RoomCandidatePool pool = new RoomCandidatePool(RESERVATION_MILLIS);
+        pool.register("room", 2, 1L, 1);
+        pool.reserve(0L);
+
+        // when
+        pool.release("room");
+
+        // then
+        assertThat(pool.reserve(0L)).contains("room");
+        assertThat(pool.reserve(0L)).isEmpty();
+    }
+
+    @DisplayName("예약한 사용자가 입장하면 예약이 입장 인원으로 바뀐다.")
+    @Test
+    void registerAfterReservedUserJoined() {
+        // given
+        RoomCandidatePool pool = new RoomCandidatePool(RESERVATION_MILLIS);
+        pool.register("room", 3, 1L, 1);
+        pool.reserve(0L);
+
+        // when
+        pool.register("room", 3, 1L, 2);
+
+        // then
+        assertThat(pool.reserve(0L)).contains("room");
+        assertThat(pool.reserve(0L)).isEmpty();
+    }
+
+    @DisplayName("제거된 방은 배정하지 않는다.")
+    @Test
+    void reserveRemovedRoom() {
+        // given
+        RoomCandidatePool pool = new RoomCandidatePool(RESERVATION_MILLIS);
+        pool.register("room", 3, 1L, 1);
+
+        // when
+        pool.remove("room");
+
+        // then
+        assertThat(pool.reserve(0L)).isEmpty();
+        assertThat(pool.size()).isZero();
+    }
+}
@@ -15,12 +15,24 @@ import com.ssafy.ssafyro.api.service.room.response.RoomListResponse;
 import com.ssafy.ssafyro.domain.MajorType;
 import com.ssafy.ssafyro.domain.room.RoomStatus;
 import com.ssafy.ssafyro.domain.room.RoomType;
+import com.ssafy.ssafyro.domain.room.redis.RoomParticipantRedisRepository;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedisRepository;
 import com.ssafy.ssafyro.domain.user.User;
 import com.ssafy.ssafyro.domain.user.UserRepository;
+import com.ssafy.ssafyro.error.room.RoomAlreadyEnteredException;
+import com.ssafy.ssafyro.error.room.RoomFullException;
 import com.ssafy.ssafyro.error.room.RoomNotFoundException;
+import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +47,9 @@ class RoomServiceTest extends IntegrationTestSupport {
     @Autowired
     private RoomRedisRepository roomRedisRepository;
 
+    @Autowired
+    private RoomParticipantRedisRepository roomParticipantRedisRepository;
+
     @Autowired
     private RedisTemplate<String, RoomRedis> redisTemplate;
 
@@ -95,11 +110,11 @@ class RoomServiceTest extends IntegrationTestSupport {
                 .capacity(3)
                 .build();
 
-        room.addParticipant(userRepository.save(user).getId());
-        room.addParticipant(userRepository.save(user2).getId());
-
         String savedRoomId = roomRedisRepository.save(room);
 
+        roomParticipantRedisRepository.join(room, user.getId());
+        roomParticipantRedisRepository.join(room, user2.getId());
+
         // when
         RoomDetailResponse roomDetailResponse = roomService.getRoomById(savedRoomId);
 
@@ -118,7 +133,7 @@ class RoomServiceTest extends IntegrationTestSupport {
     void getRoomsTest() {
         // given
         RoomListServiceRequest request = new RoomListServiceRequest("Room 1", RoomType.PERSONALITY.name(), 3,
-                RoomStatus.WAIT.name(), 1, 10);
+                RoomStatus.WAIT.name(), 1, 10, null);
 
         RoomRedis room1 = createRoom("Room 1", RoomType.PERSONALITY, 3);
         RoomRedis room2 = createRoom("Room 2", RoomType.PERSONALITY, 3);
@@ -145,7 +160,7 @@ class RoomServiceTest extends IntegrationTestSupport {
         for (int i = 0; i < 10; i++) {
             roomRedisRepository.save(createRoom("Room " + i, RoomType.PERSONALITY, 3));
         }
-        RoomListServiceRequest request = new RoomListServiceRequest(null, null, null, null, 1, 10);
+        RoomListServiceRequest request = new RoomListServiceRequest(null, null, null, null, 1, 10, null);
         //when
         RoomListResponse response = roomService.getRooms(request);
 
@@ -177,7 +192,7 @@ class RoomServiceTest extends IntegrationTestSupport {
         int page = 1;
         int size = 10;
 
-        RoomListServiceRequest request = new RoomListServiceRequest(title, roomType, capacity, status, page, size);
+        RoomListServiceRequest request = new RoomListServiceRequest(title, roomType, capacity, status, page, size, null);
 
         // when
         RoomListResponse response = roomService.getRooms(request);
@@ -214,11 +229,9 @@ class RoomServiceTest extends IntegrationTestSupport {
 
         // when
         roomService.enterRoom(userId, request);
-        RoomRedis room = roomRedisRepository.findBy(roomId).orElse(null);
 
         // then
-        assertThat(room).isNotNull();
-        assertThat(room.getUserList()).contains(userId);
+        assertThat(roomParticipantRedisRepository.findAllBy(roomId).userIds()).contains(userId);
     }
 
     @Test
@@ -268,10 +281,7 @@ class RoomServiceTest extends IntegrationTestSupport {
         roomService.enterRoom(user1.getId(), request);
 
         // then
-        RoomRedis room = roomRedisRepository.findBy(roomId).orElse(null);
-        assertThat(room).isNotNull();
-        assertThat(room.getUserList()).contains(userId);
-        assertThat(room.getUserList()).hasSize(1);
+        assertThat(roomParticipantRedisRepository.findAllBy(roomId).userIds()).containsExactly(userId);
     }
 
     @DisplayName("존재하지 않는 방에서 나가려고 시도하면 예외가 발생한다.")
@@ -317,11 +327,11 @@ class RoomServiceTest extends IntegrationTestSupport {
                 .username("test")
                 .build());
 
-        testRoom.addParticipant(user1.getId());
-        testRoom.addParticipant(user2.getId());
-
         roomRedisRepository.save(testRoom);
 
+        roomParticipantRedisRepository.join(testRoom, user1.getId());
+        roomParticipantRedisRepository.join(testRoom, user2.getId());
+
         String roomId = testRoom.getId();
         Long userId = user2.getId();
         RoomExitServiceRequest request = new RoomExitServiceRequest(roomId);
@@ -330,10 +340,101 @@ class RoomServiceTest extends IntegrationTestSupport {
         roomService.exitRoom(userId, request);
 
         // then
-        RoomRedis room = roomRedisRepository.findBy(roomId).orElse(null);
-        assertThat(room).isNotNull();
-        assertThat(room.getUserList()).doesNotContain(userId);
-        assertThat(room.getUserList()).hasSize(1);
+        List<Long> participants = roomParticipantRedisRepository.findAllBy(roomId).userIds();
+        assertThat(participants).doesNotContain(userId);
+        assertThat(participants).hasSize(1);
+    }
+
+    @DisplayName("이미 입장한 방에 다시 입장하면 예외가 발생한다.")
+    @Test
+    void enterRoomTwice() {
+        // given
+        RoomRedis testRoom = createRoom("Test Room", RoomType.PERSONALITY, 3);
+        roomRedisRepository.save(testRoom);
+
+        User user = userRepository.save(createUser("test"));
+        RoomEnterServiceRequest request = new RoomEnterServiceRequest(testRoom.getId());
+        roomService.enterRoom(user.getId(), request);
+
+        // when & then
+        assertThatThrownBy(() -> roomService.enterRoom(user.getId(), request))
+                .isInstanceOf(RoomAlreadyEnteredException.class);
+        assertThat(roomParticipantRedisRepository.findAllBy(testRoom.getId()).userIds())
+                .containsExactly(user.getId());
+    }
+
+    @DisplayName("정원이 가득 찬 방에 입장하면 예외가 발생한다.")
+    @Test
+    void enterFullRoom() {
+        // given
+        RoomRedis testRoom = createRoom("Test Room", RoomType.PERSONALITY, 1);
+        roomRedisRepository.save(testRoom);
+
+        User user1 = userRepository.save(createUser("test1"));
+        User user2 = userRepository.save(createUser("test2"));
+        roomService.enterRoom(user1.getId(), new RoomEnterServiceRequest(testRoom.getId()));
+
+        // when & then
+        assertThatThrownBy(() -> roomService.enterRoom(user2.getId(), new RoomEnterServiceRequest(testRoom.getId())))
+                .isInstanceOf(RoomFullException.class);
+    }
+
+    @DisplayName("동시에 여러 사용자가 입장해도 방의 정원을 초과하지 않는다.")
+    @Test
+    void enterRoomConcurrently() throws InterruptedException {
+        // given
+        int userCount = 10;
+        RoomRedis testRoom = createRoom("Test Room", RoomType.PERSONALITY, 3);
+        roomRedisRepository.save(testRoom);
+
+        List<User> users = userRepository.saveAll(
+                IntStream.range(0, userCount)
+                        .mapToObj(i -> createUser("test" + i))
+                        .toList()
+        );
+
+        ExecutorService executorService = Executors.newFixedThreadPool(userCount);
+        CountDownLatch latch = new CountDownLatch(userCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger fullCount = new AtomicInteger();
+        Queue<Throwable> unexpectedErrors = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (User user : users) {
+            executorService.submit(() -> {
+                try {
+                    roomService.enterRoom(user.getId(), new RoomEnterServiceRequest(testRoom.getId()));
+                    successCount.incrementAndGet();
+                } catch (RoomFullException e) {
+                    fullCount.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpectedErrors.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        boolean completed = latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        boolean terminated = executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(terminated).isTrue();
+        assertThat(unexpectedErrors).isEmpty();
+        assertThat(successCount.get()).isEqualTo(3);
+        assertThat(fullCount.get()).isEqualTo(userCount - 3);
+        assertThat(roomParticipantRedisRepository.findAllBy(testRoom.getId()).size()).isEqualTo(3);
+    }
+
+    private User createUser(String name) {
+        return User.builder()
+                .majorType(MajorType.valueOf("MAJOR"))
+                .nickname(name)
+                .profileImageUrl(name)
+                .providerId(name)
+                .username(name)
+                .build();
     }
 
 }
@@ -0,0 +1,78 @@
+package com.ssafy.ssafyro.api.service.room;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.ssafyro.domain.room.RoomType;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoomWaitlistTest {
+
+    @DisplayName("먼저 대기한 사용자부터 방을 배정받는다.")
+    @Test
+    void pollInOrder() {
+        // given
+        RoomWaitlist waitlist = new RoomWaitlist();
+        waitlist.add(RoomType.PERSONALITY, 1L);
+        waitlist.add(RoomType.PERSONALITY, 2L);
+        waitlist.add(RoomType.PRESENTATION, 3L);
+
+        // when // then
+        assertThat(waitlist.poll(RoomType.PERSONALITY)).contains(1L);
+        assertThat(waitlist.poll(RoomType.PERSONALITY)).contains(2L);
+        assertThat(waitlist.poll(RoomType.PERSONALITY)).isEmpty();
+        assertThat(waitlist.hasWaiting(RoomType.PRESENTATION)).isTrue();
+    }
+
+    @DisplayName("대기를 취소한 사용자는 방을 배정받지 않는다.")
+    @Test
+    void pollAfterRemoved() {
+        // given
+        RoomWaitlist waitlist = new RoomWaitlist();
+        waitlist.add(RoomType.PERSONALITY, 1L);
+        waitlist.add(RoomType.PRESENTATION, 1L);
+
+        // when
+        waitlist.removeAll(1L);
+
+        // then
+        assertThat(waitlist.hasWaiting(RoomType.PERSONALITY)).isFalse();
+        assertThat(waitlist.hasWaiting(RoomType.PRESENTATION)).isFalse();
+    }
+
+    @DisplayName("조건을 만족하지 않는 사용자는 건너뛰고 대기 순서를 유지한다.")
+    @Test
+    void pollWithCondition() {
+        // given
+        RoomWaitlist waitlist = new RoomWaitlist();
+        waitlist.add(RoomType.PERSONALITY, 1L);
+        waitlist.add(RoomType.PERSONALITY, 2L);
+
+        // when
+        Optional<Long> userId = waitlist.poll(RoomType.PERSONALITY, id -> id == 2L);
+
+        // then
+        assertThat(userId).contains(2L);
+        assertThat(waitlist.poll(RoomType.PERSONALITY)).contains(1L);
+    }
+
+    @DisplayName("대기 시간이 지난 사용자는 대기열에서 빠지고 한 번만 알림 대상으로 반환된다.")
+    @Test
+    void drainExpired() throws InterruptedException {
+        // given
+        RoomWaitlist waitlist = new RoomWaitlist(10L);
+        waitlist.add(RoomType.PERSONALITY, 1L);
+        waitlist.add(RoomType.PRESENTATION, 2L);
+        Thread.sleep(20L);
+
+        // when
+        List<Long> expired = waitlist.drainExpired();
+
+        // then
+        assertThat(expired).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(waitlist.hasWaiting(RoomType.PERSONALITY)).isFalse();
+        assertThat(waitlist.drainExpired()).isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.ssafyro.api.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.ssafy.ssafyro.IntegrationTestSupport;
+import com.ssafy.ssafyro.domain.MajorType;
+import com.ssafy.ssafyro.domain.user.User;
+import com.ssafy.ssafyro.domain.user.UserRepository;
+import com.ssafy.ssafyro.domain.user.dto.UserProfileDto;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class UserProfileServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private UserProfileService userProfileService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DisplayName("여러 유저의 프로필을 한 번에 조회한다.")
+    @Test
+    void getProfiles() {
+        // given
+        User user1 = userRepository.save(createUser("user1"));
+        User user2 = userRepository.save(createUser("user2"));
+
+        // when
+        Map<Long, UserProfileDto> profiles = userProfileService.getProfiles(List.of(user1.getId(), user2.getId()));
+
+        // then
+        assertThat(profiles.values())
+                .extracting("id", "nickname", "profileImageUrl")
+                .containsExactlyInAnyOrder(
+                        tuple(user1.getId(), "user1", "https://user1.png"),
+                        tuple(user2.getId(), "user2", "https://user2.png")
+                );
+    }
+
+    @DisplayName("존재하지 않는 유저의 프로필은 조회되지 않는다.")
+    @Test
+    void getProfilesWithNotExistingUser() {
+        // given
+        User user = userRepository.save(createUser("user"));
+
+        // when
+        Map<Long, UserProfileDto> profiles = userProfileService.getProfiles(List.of(user.getId(), -1L));
+
+        // then
+        assertThat(profiles).containsOnlyKeys(user.getId());
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .username(nickname)
+                .nickname(nickname)
+                .providerId(nickname)
+                .profileImageUrl("https://" + nickname + ".png")
+                .majorType(MajorType.MAJOR)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ssafy.ssafyro.config.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.ssafyro.IntegrationTestSupport;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class BoundedRedisCacheTest extends IntegrationTestSupport {
+
+    private static final String PREFIX = "test:bounded-cache:";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        new BoundedRedisCache(stringRedisTemplate, PREFIX, Duration.ofMinutes(1), 2, false).clear();
+    }
+
+    @DisplayName("조회할 때 시각을 갱신하면 최대 크기를 넘을 때 가장 오래 쓰이지 않은 항목부터 지운다.")
+    @Test
+    void evictLeastRecentlyUsedTest() throws InterruptedException {
+        //given
+        BoundedRedisCache cache = new BoundedRedisCache(stringRedisTemplate, PREFIX, Duration.ofMinutes(1), 2, true);
+        cache.put(cache.keyOf("1"), Map.of("value", "값1"));
+        Thread.sleep(5);
+        cache.put(cache.keyOf("2"), Map.of("value", "값2"));
+        Thread.sleep(5);
+        cache.get(cache.keyOf("1"), List.of("value"));
+        Thread.sleep(5);
+
+        //when
+        cache.put(cache.keyOf("3"), Map.of("value", "값3"));
+
+        //then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(cache.keyOf("1"), List.of("value"))).contains(List.of("값1"));
+        assertThat(cache.get(cache.keyOf("2"), List.of("value"))).isEmpty();
+        assertThat(stringRedisTemplate.hasKey(cache.keyOf("2"))).isFalse();
+    }
+
+    @DisplayName("같은 키에 다른 형식으로 저장된 값이 있어도 새 항목으로 덮어쓴다.")
+    @Test
+    void putOverLegacyValueTest() {
+        //given
+        BoundedRedisCache cache = new BoundedRedisCache(stringRedisTemplate, PREFIX, Duration.ofMinutes(1), 2, true);
+        stringRedisTemplate.opsForValue().set(cache.keyOf("1"), "이전 값");
+
+        //when
+        cache.put(cache.keyOf("1"), Map.of("value", "값1"));
+
+        //then
+        assertThat(cache.get(cache.keyOf("1"), List.of("value"))).contains(List.of("값1"));
+    }
+}
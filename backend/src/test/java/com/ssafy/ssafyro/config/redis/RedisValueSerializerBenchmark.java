@@ -0,0 +1,86 @@
+package com.ssafy.ssafyro.config.redis;
+
+import com.ssafy.ssafyro.domain.interview.InterviewRedis;
+import com.ssafy.ssafyro.domain.interview.InterviewRedisSerializer;
+import com.ssafy.ssafyro.domain.room.RoomType;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedisSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 바이너리 직렬화와 기존 JSON 직렬화의 값 하나당 바이트 수와 인코딩/디코딩 시간을 비교한다.
+ * 일반 테스트에서는 빠지고 {@code ./gradlew benchmark} 로만 실행한다.
+ */
+@Tag("benchmark")
+class RedisValueSerializerBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @DisplayName("RoomRedis 의 바이너리, JSON 직렬화 크기와 시간을 비교한다.")
+    @Test
+    void roomRedis() {
+        report("RoomRedis", RoomRedis.builder()
+                .title("삼성 PT 면접 연습")
+                .description("금요일 저녁 PT 면접 스터디입니다.")
+                .type(RoomType.PRESENTATION)
+                .capacity(3)
+                .build(), new RoomRedisSerializer());
+    }
+
+    @DisplayName("InterviewRedis 의 바이너리, JSON 직렬화 크기와 시간을 비교한다.")
+    @Test
+    void interviewRedis() {
+        report("InterviewRedis", InterviewRedis.builder()
+                .userId(1L)
+                .question("본인의 장점을 말해주세요.")
+                .answer("저는 맡은 일을 끝까지 책임지는 사람입니다.")
+                .pronunciationScore(4)
+                .evaluationScore(7)
+                .happy(0.31)
+                .disgust(0.02)
+                .sad(0.05)
+                .surprise(0.11)
+                .fear(0.01)
+                .angry(0.0)
+                .neutral(0.5)
+                .build(), new InterviewRedisSerializer());
+    }
+
+    private <T> void report(String name, T value, RedisSerializer<T> binarySerializer) {
+        System.out.printf("%s bytes: binary=%d, json=%d%n", name,
+                binarySerializer.serialize(value).length, jsonSerializer.serialize(value).length);
+        System.out.printf("%s ns/op: binary=%s, json=%s%n", name,
+                measure(value, binarySerializer), measure(value, jsonSerializer));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> String measure(T value, RedisSerializer<?> serializer) {
+        RedisSerializer<Object> target = (RedisSerializer<Object>) serializer;
+        byte[] bytes = target.serialize(value);
+
+        for (int i = 0; i < WARMUP; i++) {
+            target.deserialize(target.serialize(value));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            target.serialize(value);
+        }
+        long encode = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            target.deserialize(bytes);
+        }
+        long decode = (System.nanoTime() - start) / ITERATIONS;
+
+        return "encode " + encode + " / decode " + decode;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ssafy.ssafyro.config.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ssafy.ssafyro.domain.interview.InterviewRedis;
+import com.ssafy.ssafyro.domain.interview.InterviewRedisSerializer;
+import com.ssafy.ssafyro.domain.room.RoomType;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedisSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class RedisValueSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @DisplayName("RoomRedis 바이너리 직렬화는 JSON 보다 작고 같은 값으로 복원된다.")
+    @Test
+    void roomRedisRoundTrip() {
+        // given
+        RoomRedisSerializer binarySerializer = new RoomRedisSerializer();
+        RoomRedis room = RoomRedis.builder()
+                .title("삼성 PT 면접 연습")
+                .description("금요일 저녁 PT 면접 스터디입니다.")
+                .type(RoomType.PRESENTATION)
+                .capacity(3)
+                .build();
+
+        // when
+        RoomRedis restored = binarySerializer.deserialize(binarySerializer.serialize(room));
+
+        // then
+        assertThat(restored).usingRecursiveComparison().isEqualTo(room);
+        assertThat(binarySerializer.serialize(room).length)
+                .isLessThan(jsonSerializer.serialize(room).length);
+    }
+
+    @DisplayName("InterviewRedis 바이너리 직렬화는 JSON 보다 작고 같은 값으로 복원된다.")
+    @Test
+    void interviewRedisRoundTrip() {
+        // given
+        InterviewRedisSerializer binarySerializer = new InterviewRedisSerializer();
+        InterviewRedis interview = InterviewRedis.builder()
+                .userId(1L)
+                .question("본인의 장점을 말해주세요.")
+                .answer("저는 맡은 일을 끝까지 책임지는 사람입니다.")
+                .pronunciationScore(4)
+                .evaluationScore(7)
+                .happy(0.31)
+                .disgust(0.02)
+                .sad(0.05)
+                .surprise(0.11)
+                .fear(0.01)
+                .angry(0.0)
+                .neutral(0.5)
+                .build();
+
+        // when
+        InterviewRedis restored = binarySerializer.deserialize(binarySerializer.serialize(interview));
+
+        // then
+        assertThat(restored).usingRecursiveComparison().isEqualTo(interview);
+        assertThat(binarySerializer.serialize(interview).length)
+                .isLessThan(jsonSerializer.serialize(interview).length);
+    }
+
+    @DisplayName("JSON 으로 저장된 기존 값도 바이너리 직렬화로 읽을 수 있다.")
+    @Test
+    void readLegacyJson() {
+        // given
+        RoomRedisSerializer binarySerializer = new RoomRedisSerializer();
+        RoomRedis room = RoomRedis.builder()
+                .title("title")
+                .description("description")
+                .type(RoomType.PERSONALITY)
+                .capacity(4)
+                .build();
+
+        // when
+        RoomRedis restored = binarySerializer.deserialize(jsonSerializer.serialize(room));
+
+        // then
+        assertThat(restored).usingRecursiveComparison().isEqualTo(room);
+    }
+
+    @DisplayName("읽을 수 없는 버전으로 저장된 값은 거부한다.")
+    @Test
+    void rejectUnknownVersion() {
+        // given
+        RoomRedisSerializer binarySerializer = new RoomRedisSerializer();
+        byte[] bytes = binarySerializer.serialize(RoomRedis.builder()
+                .title("title")
+                .description("description")
+                .type(RoomType.PERSONALITY)
+                .capacity(4)
+                .build());
+        bytes[2] = 99;
+
+        // when // then
+        assertThatThrownBy(() -> binarySerializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasRootCauseMessage("Unsupported RoomRedis version 99");
+    }
+}
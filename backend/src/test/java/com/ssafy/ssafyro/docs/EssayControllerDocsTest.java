@@ -12,8 +12,10 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ssafy.ssafyro.api.controller.essay.request.EssayReviewRequest;
@@ -22,12 +24,15 @@ import com.ssafy.ssafyro.api.service.essay.request.EssayReviewServiceRequest;
 import com.ssafy.ssafyro.api.service.essay.request.EssaySaveServiceRequest;
 import com.ssafy.ssafyro.api.service.essay.response.EssayDetailResponse;
 import com.ssafy.ssafyro.api.service.essay.response.EssayReviewResponse;
+import com.ssafy.ssafyro.api.service.essay.response.EssayReviewStreamResponse;
 import com.ssafy.ssafyro.api.service.essay.response.EssaySaveResponse;
 import com.ssafy.ssafyro.security.WithMockJwtAuthentication;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 
 public class EssayControllerDocsTest extends RestDocsSupport {
 
@@ -36,7 +41,7 @@ public class EssayControllerDocsTest extends RestDocsSupport {
     void reviewEssay() throws Exception {
         EssayReviewRequest essayReviewRequest = new EssayReviewRequest(1L, "첨삭 전 에세이");
 
-        given(essayService.reviewEssay(any(EssayReviewServiceRequest.class)))
+        given(essayService.reviewEssay(any(Long.class), any(EssayReviewServiceRequest.class)))
                 .willReturn(new EssayReviewResponse("첨삭 후 에세이"));
 
         mockMvc.perform(
@@ -69,6 +74,41 @@ public class EssayControllerDocsTest extends RestDocsSupport {
                 );
     }
 
+    @DisplayName("에세이 첨삭 스트리밍 API")
+    @Test
+    void streamReviewEssay() throws Exception {
+        EssayReviewRequest essayReviewRequest = new EssayReviewRequest(1L, "첨삭 전 에세이");
+
+        given(essayService.streamReviewEssay(any(EssayReviewServiceRequest.class)))
+                .willReturn(Flux.just(
+                        EssayReviewStreamResponse.token("newcontent", "첨삭 후 에세이"),
+                        EssayReviewStreamResponse.section("newcontent", "첨삭 후 에세이")
+                ));
+
+        MvcResult result = mockMvc.perform(
+                        post("/api/v1/essays/review/stream")
+                                .content(objectMapper.writeValueAsString(essayReviewRequest))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document("essay-review-stream",
+                                preprocessRequest(prettyPrint()),
+                                requestFields(
+                                        fieldWithPath("essayQuestionId").type(JsonFieldType.NUMBER)
+                                                .description("에세이 질문 id"),
+                                        fieldWithPath("content").type(JsonFieldType.STRING)
+                                                .description("첨삭 전 에세이")
+                                )
+                        )
+                );
+    }
+
     @DisplayName("에세이 저장 API")
     @Test
     @WithMockJwtAuthentication
@@ -122,6 +122,7 @@ public class InterviewControllerDocsTest extends RestDocsSupport {
     @WithMockJwtAuthentication
     void createQuestionResult() throws Exception {
         QnAResultCreateRequest request = QnAResultCreateRequest.builder()
+                .roomId("roomId")
                 .question("자신의 강점이 뭐라고 생각하시나요?")
                 .answer("포기할 줄 모르는 자세입니다.")
                 .pronunciationScore(3)
@@ -149,6 +150,8 @@ public class InterviewControllerDocsTest extends RestDocsSupport {
                         preprocessRequest(prettyPrint()),
                         preprocessResponse(prettyPrint()),
                         requestFields(
+                                fieldWithPath("roomId").type(JsonFieldType.STRING)
+                                        .description("방 id"),
                                 fieldWithPath("question").type(JsonFieldType.STRING)
                                         .description("면접 질문"),
                                 fieldWithPath("answer").type(JsonFieldType.STRING)
@@ -186,7 +189,7 @@ public class InterviewControllerDocsTest extends RestDocsSupport {
     @DisplayName("면접 질문, 답변 평가 점수 저장 API")
     @Test
     void scoreQnAResult() throws Exception {
-        ScoreRequest request = new ScoreRequest(1L, 5);
+        ScoreRequest request = new ScoreRequest("roomId", 1L, 5);
 
         given(interviewService.scoreQnAResult(any(ScoreServiceRequest.class)))
                 .willReturn(new ScoreResponse(1L));
@@ -202,6 +205,8 @@ public class InterviewControllerDocsTest extends RestDocsSupport {
                         preprocessRequest(prettyPrint()),
                         preprocessResponse(prettyPrint()),
                         requestFields(
+                                fieldWithPath("roomId").type(JsonFieldType.STRING)
+                                        .description("방 id"),
                                 fieldWithPath("userId").type(JsonFieldType.NUMBER)
                                         .description("유저 id"),
                                 fieldWithPath("evaluationScore").type(JsonFieldType.NUMBER)
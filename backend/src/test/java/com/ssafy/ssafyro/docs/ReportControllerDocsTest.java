@@ -28,6 +28,7 @@ import com.ssafy.ssafyro.api.service.report.request.ReportsScoreServiceRequest;
 import com.ssafy.ssafyro.api.service.report.response.ReportCreateResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportPresentationResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportResponse;
+import com.ssafy.ssafyro.api.service.report.response.ReportStatusResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportsResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportsStatisticExpressionResponse;
 import com.ssafy.ssafyro.api.service.report.response.ReportsStatisticUserScoreResponse;
@@ -38,6 +39,7 @@ import com.ssafy.ssafyro.domain.article.Article;
 import com.ssafy.ssafyro.domain.interviewresult.InterviewResult;
 import com.ssafy.ssafyro.domain.report.PresentationInterviewReport;
 import com.ssafy.ssafyro.domain.report.Report;
+import com.ssafy.ssafyro.domain.report.ReportStatus;
 import com.ssafy.ssafyro.domain.room.RoomType;
 import com.ssafy.ssafyro.domain.room.entity.Room;
 import com.ssafy.ssafyro.security.WithMockJwtAuthentication;
@@ -310,6 +312,7 @@ public class ReportControllerDocsTest extends RestDocsSupport {
         given(report.getTotalScore()).willReturn(90);
         given(report.getPronunciationScore()).willReturn(3);
         given(report.getUserId()).willReturn(1L);
+        given(report.getStatus()).willReturn(ReportStatus.PENDING);
 
         ReportCreateResponse response = ReportCreateResponse.of(report);
 
@@ -347,6 +350,40 @@ public class ReportControllerDocsTest extends RestDocsSupport {
                                         .description("유저 id"),
                                 fieldWithPath("response.reportId").type(JsonFieldType.NUMBER)
                                         .description("레포트 id"),
+                                fieldWithPath("response.status").type(JsonFieldType.STRING)
+                                        .description("레포트 생성 상태 (PENDING, DONE, FAILED)"),
+                                fieldWithPath("error").type(JsonFieldType.NULL)
+                                        .description("에러")
+                        )
+                ));
+    }
+
+    @DisplayName("면접 레포트 생성 상태 조회 API")
+    @Test
+    void getReportStatus() throws Exception {
+        given(reportService.getReportStatus(any(Long.class)))
+                .willReturn(new ReportStatusResponse(1L, ReportStatus.DONE));
+
+        mockMvc.perform(
+                        get("/api/v1/reports/{id}/status", 1L)
+                                .contentType(MediaType.APPLICATION_JSON)
+                ).andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document("report-status",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        pathParameters(
+                                parameterWithName("id").description("report 고유 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                        .description("성공 여부"),
+                                fieldWithPath("response").type(JsonFieldType.OBJECT)
+                                        .description("응답"),
+                                fieldWithPath("response.reportId").type(JsonFieldType.NUMBER)
+                                        .description("레포트 id"),
+                                fieldWithPath("response.status").type(JsonFieldType.STRING)
+                                        .description("레포트 생성 상태 (PENDING, DONE, FAILED)"),
                                 fieldWithPath("error").type(JsonFieldType.NULL)
                                         .description("에러")
                         )
@@ -25,7 +25,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
-@SpringBootTest
+// 서비스를 mock 으로 대체하므로 백그라운드에서 기사 풀을 채우지 않는다.
+@SpringBootTest(properties = {"article.pool.size=0", "komoran.pool.size=1"})
 @ExtendWith(RestDocumentationExtension.class)
 public abstract class RestDocsSupport {
 
@@ -3,6 +3,7 @@ package com.ssafy.ssafyro.docs;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.preprocessRequest;
@@ -19,14 +20,17 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.ssafy.ssafyro.api.controller.room.request.RoomCreateRequest;
 import com.ssafy.ssafyro.api.controller.room.request.RoomEnterRequest;
 import com.ssafy.ssafyro.api.controller.room.request.RoomExitRequest;
+import com.ssafy.ssafyro.api.controller.room.request.RoomFastEnterWaitRequest;
 import com.ssafy.ssafyro.api.service.room.request.RoomCreateServiceRequest;
 import com.ssafy.ssafyro.api.service.room.request.RoomListServiceRequest;
 import com.ssafy.ssafyro.api.service.room.response.RoomCreateResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomDetailResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomEnterResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomExitResponse;
+import com.ssafy.ssafyro.api.service.room.response.RoomFastEnterCancelResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomFastEnterResponse;
 import com.ssafy.ssafyro.api.service.room.response.RoomListResponse;
+import com.ssafy.ssafyro.domain.room.RoomCursor;
 import com.ssafy.ssafyro.domain.room.RoomType;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
 import com.ssafy.ssafyro.security.WithMockJwtAuthentication;
@@ -43,17 +47,18 @@ public class RoomControllerDocsTest extends RestDocsSupport {
     @Test
     void getAllRoomsTest() throws Exception {
         // given
+        RoomRedis meetingRoom = RoomRedis.builder()
+                .title("Meeting Room")
+                .description("A cozy meeting room")
+                .type(RoomType.PRESENTATION)
+                .capacity(3).build();
         RoomListResponse roomListResponse = RoomListResponse.of(List.of(
                 RoomRedis.builder()
                         .title("Conference Room")
                         .description("A spacious conference room")
                         .type(RoomType.PRESENTATION)
                         .capacity(3).build(),
-                RoomRedis.builder()
-                        .title("Meeting Room")
-                        .description("A cozy meeting room")
-                        .type(RoomType.PRESENTATION)
-                        .capacity(3).build()));
+                meetingRoom), Map.of(), RoomCursor.from(meetingRoom));
 
         given(roomService.getRooms(any(RoomListServiceRequest.class)))
                 .willReturn(roomListResponse);
@@ -78,7 +83,10 @@ public class RoomControllerDocsTest extends RestDocsSupport {
                                 parameterWithName("page")
                                         .description("페이지 번호 (예: 1)"),
                                 parameterWithName("size")
-                                        .description("페이지 당 방의 수 (예: 10)")),
+                                        .description("페이지 당 방의 수 (예: 10)"),
+                                parameterWithName("cursor")
+                                        .description("이전 응답의 nextCursor, 지정하면 page 대신 해당 위치 다음부터 조회")
+                                        .optional()),
                         responseFields(fieldWithPath("success")
                                         .type(JsonFieldType.BOOLEAN)
                                         .description("성공 여부"),
@@ -109,6 +117,9 @@ public class RoomControllerDocsTest extends RestDocsSupport {
                                 fieldWithPath("response.rooms[].participantCount")
                                         .type(JsonFieldType.NUMBER)
                                         .description("방 참가자 수"),
+                                fieldWithPath("response.nextCursor")
+                                        .type(JsonFieldType.STRING)
+                                        .description("다음 페이지 커서 (마지막 페이지면 null)"),
                                 fieldWithPath("error").type(
                                                 JsonFieldType.NULL)
                                         .description("에러"))));
@@ -125,11 +136,8 @@ public class RoomControllerDocsTest extends RestDocsSupport {
                 .type(RoomType.PRESENTATION)
                 .capacity(3).build();
 
-        roomRedis.addParticipant(1L);
-        roomRedis.addParticipant(2L);
-
         given(roomService.getRoomById(any(String.class))).willReturn(
-                RoomDetailResponse.of(roomRedis, Map.of(1L, "유저1", 2L, "유저2")));
+                RoomDetailResponse.of(roomRedis, List.of(1L, 2L), Map.of(1L, "유저1", 2L, "유저2")));
 
         mockMvc.perform(get("/api/v1/rooms/{id}", requestRoomId)).andDo(print())
                 .andExpect(status().isOk())
@@ -303,4 +311,65 @@ public class RoomControllerDocsTest extends RestDocsSupport {
                         )
                 ));
     }
+
+    @DisplayName("빠른 방 입장 대기 API")
+    @Test
+    @WithMockJwtAuthentication
+    void waitFastEnter() throws Exception {
+        RoomFastEnterWaitRequest request = new RoomFastEnterWaitRequest("PRESENTATION");
+
+        given(roomService.waitFastEnter(any(), any(String.class)))
+                .willReturn(RoomFastEnterResponse.notExisting());
+
+        mockMvc.perform(post("/api/v1/rooms/fast-enter/waiting")
+                        .header("Authorization", "Bearer {JWT Token}")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document("fast-enter-waiting",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestFields(fieldWithPath("type").type(JsonFieldType.STRING)
+                                .description("PERSONALITY: 인성 면접, \n PRESENTATION: PT 면접")),
+                        responseFields(
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                        .description("성공 여부"),
+                                fieldWithPath("response").type(JsonFieldType.OBJECT)
+                                        .description("응답"),
+                                fieldWithPath("response.isExisting").type(JsonFieldType.BOOLEAN)
+                                        .description("방 찾음 여부 (false 면 대기열에 등록되고 /topic/fast-enter/{userId} 로 배정 결과를 받음)"),
+                                fieldWithPath("response.roomId").type(JsonFieldType.NULL)
+                                        .description("방 고유 ID"),
+                                fieldWithPath("error").type(JsonFieldType.NULL)
+                                        .description("에러"))));
+    }
+
+    @DisplayName("빠른 방 입장 대기 취소 API")
+    @Test
+    @WithMockJwtAuthentication
+    void cancelFastEnter() throws Exception {
+        given(roomService.cancelFastEnter(any(), any(String.class)))
+                .willReturn(new RoomFastEnterCancelResponse());
+
+        mockMvc.perform(delete("/api/v1/rooms/fast-enter/waiting")
+                        .header("Authorization", "Bearer {JWT Token}")
+                        .param("type", "PRESENTATION")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document("fast-enter-cancel",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        queryParameters(
+                                parameterWithName("type").description("PERSONALITY: 인성 면접, \n PRESENTATION: PT 면접")
+                        ),
+                        responseFields(
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                        .description("성공 여부"),
+                                fieldWithPath("response").type(JsonFieldType.OBJECT)
+                                        .description("응답"),
+                                fieldWithPath("error").type(JsonFieldType.NULL)
+                                        .description("에러"))));
+    }
 }
@@ -1,41 +1,154 @@
 package com.ssafy.ssafyro.domain.interview;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import com.ssafy.ssafyro.IntegrationTestSupport;
+import com.ssafy.ssafyro.error.interview.InterviewAnswerNotFoundException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 class InterviewRedisRepositoryTest extends IntegrationTestSupport {
 
+    private static final String ROOM_ID = "roomId";
+
     @Autowired
     private InterviewRedisRepository interviewRedisRepository;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     @AfterEach
     void tearDown() {
         interviewRedisRepository.deleteAll();
     }
 
-    @DisplayName("면접 답변에 대한 질문, 답변, 표정, 발음에 대한 점수를 Json 으로 직렬화한 후 Redis에 List형식으로 저장한다.")
+    @DisplayName("면접 답변에 대한 질문, 답변, 표정, 발음에 대한 점수를 면접 세션 해시에 순서대로 저장한다.")
     @Test
     void saveTest() {
         //given
         InterviewRedis interview = createInterview(1L);
 
         //when
-        interviewRedisRepository.save(interview);
+        interviewRedisRepository.save(ROOM_ID, interview);
 
         //then
-        assertThat(interviewRedisRepository.findByUserId(1L))
+        assertThat(interviewRedisRepository.findByUserId(ROOM_ID, 1L))
                 .extracting("userId", "question", "answer")
                 .containsExactly(
                         tuple(1L, "질문1", "답변1")
                 );
     }
 
+    @DisplayName("마지막 답변에 평가 점수를 더한다.")
+    @Test
+    void scoreInterviewTest() {
+        //given
+        interviewRedisRepository.save(ROOM_ID, createInterview(1L));
+        interviewRedisRepository.save(ROOM_ID, createInterview(1L));
+
+        //when
+        interviewRedisRepository.scoreInterview(ROOM_ID, 1L, 3);
+        interviewRedisRepository.scoreInterview(ROOM_ID, 1L, 2);
+
+        //then
+        assertThat(interviewRedisRepository.findByUserId(ROOM_ID, 1L))
+                .extracting("evaluationScore")
+                .containsExactly(0, 5);
+    }
+
+    @DisplayName("여러 평가자가 동시에 점수를 주어도 모든 점수가 반영된다.")
+    @Test
+    void scoreInterviewConcurrentlyTest() throws InterruptedException {
+        //given
+        interviewRedisRepository.save(ROOM_ID, createInterview(1L));
+
+        int evaluatorCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(evaluatorCount);
+        CountDownLatch latch = new CountDownLatch(evaluatorCount);
+
+        //when
+        for (int i = 0; i < evaluatorCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    interviewRedisRepository.scoreInterview(ROOM_ID, 1L, 1);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(interviewRedisRepository.findByUserId(ROOM_ID, 1L))
+                .extracting("evaluationScore")
+                .containsExactly(evaluatorCount);
+    }
+
+    @DisplayName("같은 유저라도 면접 방이 다르면 답변을 따로 저장한다.")
+    @Test
+    void saveBySessionTest() {
+        //given
+        interviewRedisRepository.save(ROOM_ID, createInterview(1L));
+
+        //when
+        interviewRedisRepository.save("otherRoomId", createInterview(1L));
+        interviewRedisRepository.save("otherRoomId", createInterview(1L));
+
+        //then
+        assertThat(interviewRedisRepository.findByUserId(ROOM_ID, 1L)).hasSize(1);
+        assertThat(interviewRedisRepository.findByUserId("otherRoomId", 1L)).hasSize(2);
+    }
+
+    @DisplayName("답변을 저장하거나 채점할 때마다 면접 세션의 만료 시간을 갱신한다.")
+    @Test
+    void slidingTtlTest() {
+        //given
+        interviewRedisRepository.save(ROOM_ID, createInterview(1L));
+        stringRedisTemplate.expire("interview:" + ROOM_ID + ":1", Duration.ofSeconds(10));
+
+        //when
+        interviewRedisRepository.scoreInterview(ROOM_ID, 1L, 3);
+
+        //then
+        assertThat(stringRedisTemplate.getExpire("interview:" + ROOM_ID + ":1", TimeUnit.SECONDS))
+                .isGreaterThan(10);
+    }
+
+    @DisplayName("답변 내용을 읽지 않고 답변 순서대로 평가 점수만 조회한다.")
+    @Test
+    void findScoresByTest() {
+        //given
+        interviewRedisRepository.save(ROOM_ID, createInterview(1L));
+        interviewRedisRepository.scoreInterview(ROOM_ID, 1L, 4);
+        interviewRedisRepository.save(ROOM_ID, createInterview(1L));
+
+        //when
+        List<Integer> scores = interviewRedisRepository.findScoresBy(ROOM_ID, 1L);
+
+        //then
+        assertThat(scores).containsExactly(4, 0);
+    }
+
+    @DisplayName("채점할 답변이 없으면 예외가 발생한다.")
+    @Test
+    void scoreInterviewWithoutAnswerTest() {
+        //when //then
+        assertThatThrownBy(() -> interviewRedisRepository.scoreInterview(ROOM_ID, 1L, 1))
+                .isInstanceOf(InterviewAnswerNotFoundException.class);
+    }
+
     private InterviewRedis createInterview(Long userId) {
         return InterviewRedis.builder()
                 .userId(userId)
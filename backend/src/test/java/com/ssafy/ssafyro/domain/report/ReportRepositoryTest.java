@@ -56,7 +56,8 @@ class ReportRepositoryTest extends IntegrationTestSupport {
         reportRepository.saveAll(reports);
 
         //when
-        Page<Report> result = reportRepository.findAllByUserOrderByCreatedDateDesc(user, Pageable.ofSize(5));
+        Page<Report> result = reportRepository.findAllByUserAndStatusOrderByCreatedDateDesc(user,
+                ReportStatus.DONE, Pageable.ofSize(5));
 
         //then
         assertThat(result.getContent()).hasSize(3)
@@ -189,6 +190,32 @@ class ReportRepositoryTest extends IntegrationTestSupport {
                 );
     }
 
+    @DisplayName("생성 중이거나 실패한 레포트는 점수 평균에서 제외한다.")
+    @Test
+    void findAllAvgScoreByOnlyDone() {
+        //given
+        User user = userRepository.save(createUser());
+
+        Room room1 = createRoom(PERSONALITY, 1);
+        Room room2 = createRoom(PERSONALITY, 2);
+        Room room3 = createRoom(PERSONALITY, 3);
+        roomRepository.saveAll(List.of(room1, room2, room3));
+
+        Report done = createReport(user, room1, 90, 2);
+        Report pending = createPendingReport(user, room2, 10, 5);
+        Report failed = createPendingReport(user, room3, 20, 5);
+        failed.fail();
+        reportRepository.saveAll(List.of(done, pending, failed));
+
+        //when
+        ReportAllScoreAverageDto result = reportRepository.findAllAvgScoreBy(PERSONALITY).get();
+
+        //then
+        assertThat(result)
+                .extracting("totalScore", "pronunciationScore")
+                .containsExactly(90.0, 2.0);
+    }
+
     @DisplayName("유저의 모든 레포트 총점 및 발음 점수를 전체 조회한다.")
     @Test
     void findScoreBy() {
@@ -263,15 +290,16 @@ class ReportRepositoryTest extends IntegrationTestSupport {
     }
 
     private Report createReport(User user, Room room, int totalScore) {
-        return PersonalityInterviewReport.builder()
-                .user(user)
-                .room(room)
-                .totalScore(totalScore)
-                .pronunciationScore(3)
-                .build();
+        return createReport(user, room, totalScore, 3);
     }
 
     private Report createReport(User user, Room room, int totalScore, int pronunciationScore) {
+        Report report = createPendingReport(user, room, totalScore, pronunciationScore);
+        report.complete();
+        return report;
+    }
+
+    private Report createPendingReport(User user, Room room, int totalScore, int pronunciationScore) {
         return PersonalityInterviewReport.builder()
                 .user(user)
                 .room(room)
@@ -0,0 +1,43 @@
+package com.ssafy.ssafyro.domain.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReportTest {
+
+    @DisplayName("생성 중인 레포트는 실패 상태로 바꾼다.")
+    @Test
+    void failPendingReport() {
+        //given
+        Report report = createReport();
+
+        //when
+        report.fail();
+
+        //then
+        assertThat(report.getStatus()).isEqualTo(ReportStatus.FAILED);
+    }
+
+    @DisplayName("이미 완료된 레포트는 실패 상태로 바꾸지 않는다.")
+    @Test
+    void failDoneReport() {
+        //given
+        Report report = createReport();
+        report.complete();
+
+        //when
+        report.fail();
+
+        //then
+        assertThat(report.getStatus()).isEqualTo(ReportStatus.DONE);
+    }
+
+    private Report createReport() {
+        return PersonalityInterviewReport.builder()
+                .totalScore(90)
+                .pronunciationScore(3)
+                .build();
+    }
+}
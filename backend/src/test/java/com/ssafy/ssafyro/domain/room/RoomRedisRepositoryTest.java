@@ -1,27 +1,43 @@
 package com.ssafy.ssafyro.domain.room;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ssafy.ssafyro.IntegrationTestSupport;
 import com.ssafy.ssafyro.api.service.room.request.RoomListServiceRequest;
+import com.ssafy.ssafyro.domain.room.redis.RoomParticipantRedisRepository;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedis;
+import com.ssafy.ssafyro.domain.room.redis.RoomRedisIndex;
 import com.ssafy.ssafyro.domain.room.redis.RoomRedisRepository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 
 class RoomRedisRepositoryTest extends IntegrationTestSupport {
 
     @Autowired
     private RoomRedisRepository roomRedisRepository;
 
+    @Autowired
+    private RoomRedisIndex roomRedisIndex;
+
+    @Autowired
+    private RoomParticipantRedisRepository roomParticipantRedisRepository;
+
     @Autowired
     private RedisTemplate<String, RoomRedis> redisTemplate;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     @AfterEach
     void tearDown() {
         Set<String> keys = redisTemplate.keys("room:*");
@@ -48,6 +64,39 @@ class RoomRedisRepositoryTest extends IntegrationTestSupport {
         assertThat(foundRoom.getStatus()).isEqualTo(RoomStatus.WAIT);
     }
 
+    @DisplayName("캐시된 방도 변경 후 다시 조회하면 변경된 정보를 반환한다.")
+    @Test
+    void findAfterSavedAgainTest() {
+        // given
+        RoomRedis room = createRoom("Test Room", RoomType.PRESENTATION, 3);
+        roomRedisRepository.save(room);
+        roomRedisRepository.findBy(room.getId());
+
+        // when
+        room.startInterview();
+        roomRedisRepository.save(room);
+        RoomRedis foundRoom = roomRedisRepository.findBy(room.getId()).orElse(null);
+
+        // then
+        assertThat(foundRoom).isNotNull();
+        assertThat(foundRoom.getStatus()).isEqualTo(RoomStatus.ING);
+    }
+
+    @DisplayName("캐시된 방이 삭제되면 조회되지 않는다.")
+    @Test
+    void findAfterDeletedTest() {
+        // given
+        RoomRedis room = createRoom("Test Room", RoomType.PRESENTATION, 3);
+        roomRedisRepository.save(room);
+        roomRedisRepository.findBy(room.getId());
+
+        // when
+        roomRedisRepository.delete(room);
+
+        // then
+        assertThat(roomRedisRepository.findBy(room.getId())).isEmpty();
+    }
+
     @DisplayName("필터 조건에 맞는 방 목록을 조회한다.")
     @Test
     void findRoomsByTest() {
@@ -60,10 +109,10 @@ class RoomRedisRepositoryTest extends IntegrationTestSupport {
         roomRedisRepository.save(room3);
 
         RoomListServiceRequest request = new RoomListServiceRequest("Room", RoomType.PRESENTATION.name(), 3,
-                RoomStatus.WAIT.name(), 1, 10);
+                RoomStatus.WAIT.name(), 1, 10, null);
 
         // when
-        List<RoomRedis> rooms = roomRedisRepository.findRoomsBy(request.toFilterCondition());
+        List<RoomRedis> rooms = roomRedisRepository.findRoomsBy(request.toFilterCondition()).rooms();
 
         // then
         assertThat(rooms).extracting("title").containsExactlyInAnyOrder("Room1", "Room3");
@@ -92,8 +141,8 @@ class RoomRedisRepositoryTest extends IntegrationTestSupport {
                 .build();
 
         // when
-        List<RoomRedis> firstPage = roomRedisRepository.findRoomsBy(condition1);
-        List<RoomRedis> secondPage = roomRedisRepository.findRoomsBy(condition2);
+        List<RoomRedis> firstPage = roomRedisRepository.findRoomsBy(condition1).rooms();
+        List<RoomRedis> secondPage = roomRedisRepository.findRoomsBy(condition2).rooms();
 
         // then
         assertThat(firstPage).hasSize(10);
@@ -122,8 +171,8 @@ class RoomRedisRepositoryTest extends IntegrationTestSupport {
                 .size(10)
                 .build();
         // when
-        List<RoomRedis> firstPage = roomRedisRepository.findRoomsBy(condition1);
-        List<RoomRedis> secondPage = roomRedisRepository.findRoomsBy(condition2);
+        List<RoomRedis> firstPage = roomRedisRepository.findRoomsBy(condition1).rooms();
+        List<RoomRedis> secondPage = roomRedisRepository.findRoomsBy(condition2).rooms();
 
         // then
         assertThat(firstPage).hasSize(10);
@@ -155,6 +204,266 @@ class RoomRedisRepositoryTest extends IntegrationTestSupport {
     }
 
 
+    @DisplayName("상태가 변경된 방은 이전 상태 조건의 방 목록에서 조회되지 않는다.")
+    @Test
+    void findRoomsByAfterStatusChangedTest() {
+        // given
+        RoomRedis waitingRoom = createRoom("Waiting Room", RoomType.PERSONALITY, 3);
+        RoomRedis startedRoom = createRoom("Started Room", RoomType.PERSONALITY, 3);
+        roomRedisRepository.save(waitingRoom);
+        roomRedisRepository.save(startedRoom);
+
+        startedRoom.startInterview();
+        roomRedisRepository.save(startedRoom);
+
+        RoomFilterCondition waitCondition = RoomFilterCondition.builder()
+                .type(RoomType.PERSONALITY.name())
+                .status(RoomStatus.WAIT.name())
+                .page(1)
+                .size(10)
+                .build();
+
+        RoomFilterCondition ingCondition = RoomFilterCondition.builder()
+                .status(RoomStatus.ING.name())
+                .page(1)
+                .size(10)
+                .build();
+
+        // when
+        List<RoomRedis> waitingRooms = roomRedisRepository.findRoomsBy(waitCondition).rooms();
+        List<RoomRedis> ingRooms = roomRedisRepository.findRoomsBy(ingCondition).rooms();
+
+        // then
+        assertThat(waitingRooms).extracting("title").containsExactly("Waiting Room");
+        assertThat(ingRooms).extracting("title").containsExactly("Started Room");
+    }
+
+    @DisplayName("삭제된 방은 방 목록에서 조회되지 않는다.")
+    @Test
+    void findRoomsByAfterDeleteTest() {
+        // given
+        RoomRedis room1 = createRoom("Room1", RoomType.PRESENTATION, 3);
+        RoomRedis room2 = createRoom("Room2", RoomType.PRESENTATION, 3);
+        roomRedisRepository.save(room1);
+        roomRedisRepository.save(room2);
+
+        // when
+        roomRedisRepository.delete(room1);
+        List<RoomRedis> rooms = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .page(1)
+                .size(10)
+                .build()).rooms();
+
+        // then
+        assertThat(rooms).extracting("title").containsExactly("Room2");
+    }
+
+    @DisplayName("제목 일부로 방을 검색한다.")
+    @Test
+    void findRoomsByTitleTest() {
+        // given
+        roomRedisRepository.save(createRoom("삼성 PT 면접 스터디", RoomType.PRESENTATION, 3));
+        roomRedisRepository.save(createRoom("카카오 인성 면접", RoomType.PERSONALITY, 3));
+        roomRedisRepository.save(createRoom("면 접 연습", RoomType.PRESENTATION, 3));
+
+        // when
+        List<RoomRedis> rooms = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .title("면접")
+                .page(1)
+                .size(10)
+                .build()).rooms();
+        List<RoomRedis> filteredRooms = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .title("면접")
+                .type(RoomType.PERSONALITY.name())
+                .page(1)
+                .size(10)
+                .build()).rooms();
+        List<RoomRedis> oneLetterRooms = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .title("P")
+                .page(1)
+                .size(10)
+                .build()).rooms();
+
+        // then
+        assertThat(rooms).extracting("title")
+                .containsExactlyInAnyOrder("삼성 PT 면접 스터디", "카카오 인성 면접");
+        assertThat(filteredRooms).extracting("title").containsExactly("카카오 인성 면접");
+        assertThat(oneLetterRooms).extracting("title").containsExactly("삼성 PT 면접 스터디");
+    }
+
+    @DisplayName("방 제목 검색은 대소문자를 구분하지 않는다.")
+    @Test
+    void findRoomsByTitleIgnoringCaseTest() {
+        // given
+        roomRedisRepository.save(createRoom("Samsung PT Study", RoomType.PRESENTATION, 3));
+        roomRedisRepository.save(createRoom("Kakao Interview", RoomType.PERSONALITY, 3));
+
+        // when
+        List<RoomRedis> rooms = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .title("samsung pt")
+                .page(1)
+                .size(10)
+                .build()).rooms();
+
+        // then
+        assertThat(rooms).extracting("title").containsExactly("Samsung PT Study");
+    }
+
+    @DisplayName("커서 다음의 방 목록을 중복 없이 조회한다.")
+    @Test
+    void findRoomsByCursorTest() {
+        // given
+        saveRooms();
+
+        RoomFilterCondition firstCondition = RoomFilterCondition.builder()
+                .type(RoomType.PRESENTATION.name())
+                .page(1)
+                .size(10)
+                .build();
+        List<RoomRedis> firstPage = roomRedisRepository.findRoomsBy(firstCondition).rooms();
+
+        RoomFilterCondition nextCondition = RoomFilterCondition.builder()
+                .type(RoomType.PRESENTATION.name())
+                .size(10)
+                .cursor(RoomCursor.from(firstPage.get(firstPage.size() - 1)))
+                .build();
+
+        // when
+        List<RoomRedis> nextPage = roomRedisRepository.findRoomsBy(nextCondition).rooms();
+
+        // then
+        assertThat(firstPage).hasSize(10);
+        assertThat(nextPage).hasSize(5);
+        assertThat(nextPage).extracting("id")
+                .doesNotContainAnyElementsOf(firstPage.stream().map(RoomRedis::getId).toList());
+    }
+
+    @DisplayName("커서를 사용해도 필터 조건이 적용된다.")
+    @Test
+    void findRoomsByCursorWithFilterTest() {
+        // given
+        RoomRedis room1 = createRoom("Room1", RoomType.PRESENTATION, 3);
+        RoomRedis room2 = createRoom("Room2", RoomType.PERSONALITY, 3);
+        RoomRedis room3 = createRoom("Room3", RoomType.PRESENTATION, 3);
+        roomRedisRepository.save(room1);
+        roomRedisRepository.save(room2);
+        roomRedisRepository.save(room3);
+
+        List<RoomRedis> firstPage = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .type(RoomType.PRESENTATION.name())
+                .capacity(3)
+                .page(1)
+                .size(1)
+                .build()).rooms();
+
+        // when
+        List<RoomRedis> nextPage = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .type(RoomType.PRESENTATION.name())
+                .capacity(3)
+                .size(10)
+                .cursor(RoomCursor.from(firstPage.get(0)))
+                .build()).rooms();
+
+        // then
+        assertThat(firstPage).hasSize(1);
+        assertThat(nextPage).hasSize(1);
+        assertThat(List.of(firstPage.get(0).getTitle(), nextPage.get(0).getTitle()))
+                .containsExactlyInAnyOrder("Room1", "Room3");
+    }
+
+    @DisplayName("만료되었지만 아직 인덱스에 남은 방은 건너뛰고 페이지를 채우며, 인덱스를 끝까지 읽었을 때만 다음 커서가 없다.")
+    @Test
+    void findRoomsBySkippingExpiredRoomsTest() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            roomRedisRepository.save(createRoom("Room" + i, RoomType.PRESENTATION, 3));
+        }
+        List<RoomRedis> allRooms = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .page(1)
+                .size(10)
+                .build()).rooms();
+        redisTemplate.delete("room:" + allRooms.get(0).getId());
+
+        // when
+        RoomSlice firstPage = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .page(1)
+                .size(2)
+                .build());
+        RoomSlice nextPage = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .size(2)
+                .cursor(firstPage.nextCursor())
+                .build());
+
+        // then
+        assertThat(firstPage.rooms()).extracting("id")
+                .containsExactly(allRooms.get(1).getId(), allRooms.get(2).getId());
+        assertThat(firstPage.nextCursor()).isNotNull();
+        assertThat(nextPage.rooms()).extracting("id")
+                .containsExactly(allRooms.get(3).getId());
+        assertThat(nextPage.nextCursor()).isNull();
+    }
+
+    @DisplayName("방은 상태에 맞는 만료 시간과 함께 저장된다.")
+    @Test
+    void saveWithTtlTest() {
+        // given
+        RoomRedis room = createRoom("Test Room", RoomType.PRESENTATION, 3);
+
+        // when
+        roomRedisRepository.save(room);
+        Long ttl = redisTemplate.getExpire("room:" + room.getId(), TimeUnit.SECONDS);
+
+        // then
+        assertThat(ttl).isPositive()
+                .isLessThanOrEqualTo(RoomStatus.WAIT.getTtl().toSeconds());
+    }
+
+    @DisplayName("만료된 방은 인덱스에서 정리되어 방 목록에서 조회되지 않는다.")
+    @Test
+    void removeExpiredRoomsTest() {
+        // given
+        RoomRedis expiredRoom = createRoom("Room1", RoomType.PRESENTATION, 3);
+        RoomRedis liveRoom = createRoom("Room2", RoomType.PRESENTATION, 3);
+        roomRedisRepository.save(expiredRoom);
+        roomRedisRepository.save(liveRoom);
+        redisTemplate.delete("room:" + expiredRoom.getId());
+
+        // when
+        List<String> expiredRoomIds = roomRedisIndex.removeExpiredRooms(LocalDateTime.now().plusMinutes(1));
+        List<RoomRedis> rooms = roomRedisRepository.findRoomsBy(RoomFilterCondition.builder()
+                .type(RoomType.PRESENTATION.name())
+                .page(1)
+                .size(10)
+                .build()).rooms();
+
+        // then
+        assertThat(expiredRoomIds).containsExactly(expiredRoom.getId());
+        assertThat(rooms).extracting("title").containsExactly("Room2");
+        assertThat(roomRedisIndex.count()).isEqualTo(1);
+        assertThat(stringRedisTemplate.opsForZSet().rank("room:index:title:ro", expiredRoom.getId())).isNull();
+        assertThat(stringRedisTemplate.opsForZSet().rank("room:index:title:ro", liveRoom.getId())).isNotNull();
+        assertThat(stringRedisTemplate.hasKey("room:index:keys:" + expiredRoom.getId())).isFalse();
+    }
+
+    @DisplayName("참여자 목록을 방 정보 안에 저장하던 때의 방은 조회할 때 참여자 목록을 옮기고 현재 형식으로 다시 저장한다.")
+    @Test
+    void findLegacyRoomTest() {
+        // given
+        RoomRedis room = createRoom("Test Room", RoomType.PRESENTATION, 3);
+        String json = new String(new GenericJackson2JsonRedisSerializer().serialize(room), UTF_8);
+        String legacyJson = json.substring(0, json.lastIndexOf('}')) + ",\"userList\":[\"java.util.ArrayList\",[1,2]]}";
+        stringRedisTemplate.opsForValue().set("room:" + room.getId(), legacyJson);
+
+        // when
+        RoomRedis foundRoom = roomRedisRepository.findBy(room.getId()).orElse(null);
+
+        // then
+        assertThat(foundRoom).isNotNull();
+        assertThat(roomParticipantRedisRepository.findAllBy(room.getId()).userIds()).containsExactly(1L, 2L);
+        assertThat(stringRedisTemplate.opsForValue().get("room:" + room.getId())).doesNotStartWith("{");
+        assertThat(redisTemplate.getExpire("room:" + room.getId(), TimeUnit.SECONDS)).isPositive();
+    }
+
     @DisplayName("저장된 방을 삭제한다.")
     @Test
     void givenRoom_whenDelete_thenRoomIsDeleted() {
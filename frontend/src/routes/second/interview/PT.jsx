@@ -206,6 +206,7 @@ export default function PT() {
       .post(
         "https://i11c201.p.ssafy.io:8443/api/v1/interview/question-answer-result",
         {
+          roomId: roomid,
           question: question,
           answer: answer,
           pronunciationScore: parseInt(pronunciationScore),
@@ -252,6 +253,7 @@ export default function PT() {
   const [evaluationModal, setEvaluationModal] = useState(false);
   const handleEvaluation = async function (targetUser, evaluationScore) {
     await axios.post("https://i11c201.p.ssafy.io:8443/api/v1/interview/question-answer-result/score", {
+      roomId: roomid,
       userId: targetUser,
       evaluationScore: evaluationScore
     }, {